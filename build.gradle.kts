@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("org.springframework.boot.aot") version "4.0.0"
 }
 
 group = "com"
@@ -39,6 +40,9 @@ dependencies {
     // Documentation
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.3")
 
+    // Observability (모듈별 커넥션 풀/실행기 메트릭)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
     // Reliability
     implementation("org.springframework.retry:spring-retry:2.0.10")
     implementation("org.springframework:spring-aspects")
@@ -61,3 +65,63 @@ dependencyManagement {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
+}
+
+// 동시성 스트레스 스위트 (@Tag("stress")): ./gradlew stressTest -Pstress.orders=5000 -Pstress.concurrency=64
+val stressTest by tasks.registering(Test::class) {
+    group = "verification"
+    description = "인기 상품에 대량 동시 주문을 보내 재고 보존을 검증하는 스트레스 테스트를 실행합니다."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+    listOf("stress.orders", "stress.concurrency").forEach { name ->
+        providers.gradleProperty(name).orNull?.let { systemProperty(name, it) }
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
+// Startup-optimized runtime mode
+// AOT 처리된 bootJar를 추출한 뒤, startup 프로파일로 컨텍스트 기동까지만 실행(학습 실행)하여 CDS 아카이브를 생성합니다.
+// 학습 실행은 스키마 검증을 포함하므로 데이터베이스가 떠 있어야 합니다 (docker compose up -d).
+val startupDir = layout.buildDirectory.dir("startup")
+val startupJava = javaToolchains.launcherFor(java.toolchain).map { it.executablePath.asFile.absolutePath }
+
+val extractStartupJar by tasks.registering(Exec::class) {
+    group = "startup"
+    description = "bootJar를 CDS에 적합한 구조로 build/startup에 추출합니다."
+    dependsOn(tasks.bootJar)
+    inputs.file(tasks.bootJar.flatMap { it.archiveFile })
+    outputs.dir(startupDir)
+    doFirst {
+        delete(startupDir)
+        executable = startupJava.get()
+        args("-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+            "extract", "--destination", startupDir.get().asFile.absolutePath)
+    }
+}
+
+tasks.register<Exec>("cdsArchive") {
+    group = "startup"
+    description = "학습 실행으로 build/startup/application.jsa CDS 아카이브를 생성합니다."
+    dependsOn(extractStartupJar)
+    workingDir(startupDir)
+    outputs.file(startupDir.map { it.file("application.jsa") })
+    doFirst {
+        executable = startupJava.get()
+        args("-XX:ArchiveClassesAtExit=application.jsa",
+            "-Dspring.aot.enabled=true",
+            "-Dspring.context.exit=onRefresh",
+            "-jar", tasks.bootJar.get().archiveFileName.get(),
+            "--spring.profiles.active=startup")
+    }
+}
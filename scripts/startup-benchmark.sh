@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+#
+# 기동 후 첫 주문이 접수될 때까지의 시간(time-to-first-accepted-order)을 측정합니다.
+#
+# 사용법:
+#   docker compose up -d
+#   ./gradlew bootJar cdsArchive
+#   scripts/startup-benchmark.sh [default|startup] [반복 횟수]
+#
+# default : bootJar를 기본 설정(ddl-auto=update, 즉시 초기화)으로 실행
+# startup : 추출된 jar + CDS 아카이브 + AOT + startup 프로파일로 실행
+#
+# 각 실행은 JVM 프로세스 시작 직전부터 벤치마크 상품을 등록(PUT /products/STARTUP-BENCH)한 뒤
+# POST /orders가 200을 반환할 때까지의 경과 시간을 밀리초로 기록합니다.
+set -euo pipefail
+
+MODE="${1:-startup}"
+RUNS="${2:-5}"
+PORT="${PORT:-18080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR_NAME="demo-modulish-0.0.1-SNAPSHOT.jar"
+PRODUCT_BODY='{"name":"startup benchmark","price":1000}'
+ORDER_BODY='{"lines":[{"productId":"STARTUP-BENCH","quantity":1}]}'
+
+case "$MODE" in
+  default)
+    WORK_DIR="$ROOT_DIR/build/libs"
+    JAVA_OPTS=()
+    APP_ARGS=()
+    ;;
+  startup)
+    WORK_DIR="$ROOT_DIR/build/startup"
+    if [[ ! -f "$WORK_DIR/application.jsa" ]]; then
+      echo "CDS 아카이브가 없습니다. 먼저 ./gradlew cdsArchive를 실행하세요." >&2
+      exit 1
+    fi
+    JAVA_OPTS=(-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true)
+    APP_ARGS=(--spring.profiles.active=startup)
+    ;;
+  *)
+    echo "알 수 없는 모드: $MODE (default|startup)" >&2
+    exit 1
+    ;;
+esac
+
+now_millis() {
+  date +%s%3N
+}
+
+# HTTP 상태 코드만 출력합니다. 아직 포트가 열리지 않았으면 000을 출력합니다.
+request() {
+  curl -s -o /dev/null -w '%{http_code}' -X "$1" "http://localhost:$PORT$2" \
+    -H 'Content-Type: application/json' -d "$3" || true
+}
+
+ensure_running() {
+  if ! kill -0 "$1" 2>/dev/null; then
+    echo "애플리케이션이 비정상 종료되었습니다. 로그: build/startup-benchmark-$MODE-$2.log" >&2
+    exit 1
+  fi
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  cd "$WORK_DIR"
+  started=$(now_millis)
+  java "${JAVA_OPTS[@]}" -jar "$JAR_NAME" --server.port="$PORT" "${APP_ARGS[@]}" > "$ROOT_DIR/build/startup-benchmark-$MODE-$run.log" 2>&1 &
+  pid=$!
+
+  until [[ "$(request PUT "/products/STARTUP-BENCH" "$PRODUCT_BODY")" == "204" ]]; do
+    ensure_running "$pid" "$run"
+    sleep 0.01
+  done
+  until [[ "$(request POST "/orders" "$ORDER_BODY")" == "200" ]]; do
+    ensure_running "$pid" "$run"
+    sleep 0.01
+  done
+  elapsed=$(( $(now_millis) - started ))
+  results+=("$elapsed")
+  echo "[$MODE] run $run: ${elapsed} ms"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
+
+printf '%s\n' "${results[@]}" | sort -n | awk -v mode="$MODE" '
+  { values[NR] = $1; sum += $1 }
+  END {
+    median = (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2
+    printf "[%s] runs=%d min=%d ms median=%d ms avg=%d ms max=%d ms\n", mode, NR, values[1], median, sum / NR, values[NR]
+  }'
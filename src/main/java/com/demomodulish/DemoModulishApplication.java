@@ -2,11 +2,17 @@ package com.demomodulish;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableAsync
 @EnableRetry
+@EnableScheduling
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(DemoModulishRuntimeHints.class)
 @SpringBootApplication
 public class DemoModulishApplication {
 
@@ -0,0 +1,56 @@
+package com.demomodulish;
+
+import com.demomodulish.common.InventoryFailedEvent;
+import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCancelledEvent;
+import com.demomodulish.common.OrderCompletedEvent;
+import com.demomodulish.common.OrderFinishedEvent;
+import com.demomodulish.common.PaymentCompletedEvent;
+import com.demomodulish.common.PaymentFailedEvent;
+import com.demomodulish.common.ProductPriceChangedEvent;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * AOT 처리 시 등록하는 런타임 힌트입니다.
+ * <p>
+ * 이벤트 레코드는 이벤트 발행 기록(EVENT_PUBLICATION)에 JSON으로 직렬화/역직렬화되므로 바인딩 힌트를,
+ * 모듈 리스너는 리플렉션으로 호출되므로 메서드 호출 힌트를 등록합니다.
+ */
+class DemoModulishRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> EVENT_TYPES = List.of(
+            OrderCompletedEvent.class,
+            InventoryVerifiedEvent.class,
+            InventoryFailedEvent.class,
+            PaymentCompletedEvent.class,
+            PaymentFailedEvent.class,
+            OrderCancelledEvent.class,
+            OrderFinishedEvent.class,
+            ProductPriceChangedEvent.class,
+            LineItem.class
+    );
+
+    static final List<String> LISTENER_TYPES = List.of(
+            "com.demomodulish.order.OrderManagement",
+            "com.demomodulish.inventory.InventoryEventListener",
+            "com.demomodulish.payment.PaymentService",
+            "com.demomodulish.catalog.PriceCache",
+            "com.demomodulish.reporting.SalesEventListener"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        EVENT_TYPES.forEach(eventType -> bindingRegistrar.registerReflectionHints(hints.reflection(), eventType));
+        LISTENER_TYPES.forEach(listenerType -> hints.reflection().registerType(TypeReference.of(listenerType),
+                MemberCategory.INVOKE_DECLARED_METHODS));
+    }
+}
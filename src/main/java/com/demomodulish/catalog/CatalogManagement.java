@@ -0,0 +1,44 @@
+package com.demomodulish.catalog;
+
+import com.demomodulish.common.ProductPriceChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional
+public class CatalogManagement {
+
+    private final ProductRepository products;
+    private final ApplicationEventPublisher events;
+
+    public CatalogManagement(ProductRepository products, ApplicationEventPublisher events) {
+        this.products = products;
+        this.events = events;
+    }
+
+    /**
+     * 상품을 등록하거나 상품명/가격을 변경합니다. 가격이 바뀌면 {@link ProductPriceChangedEvent}를 발행합니다.
+     */
+    public Product save(String productId, String name, long price) {
+        Product product = products.findById(productId).orElse(null);
+        boolean priceChanged;
+        if (product == null) {
+            product = new Product(productId, name, price);
+            priceChanged = true;
+        } else {
+            product.rename(name);
+            priceChanged = product.changePrice(price);
+        }
+
+        // 커밋 전에 증가된 버전을 이벤트에 담기 위해 즉시 반영
+        product = products.saveAndFlush(product);
+        if (priceChanged) {
+            log.info("🏷️ [Catalog] 가격 변경: {} → {}원 (v{})", productId, price, product.getVersion());
+            events.publishEvent(new ProductPriceChangedEvent(productId, price, product.getVersion()));
+        }
+        return product;
+    }
+}
@@ -0,0 +1,200 @@
+package com.demomodulish.catalog;
+
+import com.demomodulish.common.ProductPriceChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 가격의 프로세스 내 근거리 캐시(near cache)입니다.
+ * <p>
+ * 최대 {@code maxSize}개 상품을 LRU로 보관하며, 캐시에 있는 가격은 데이터베이스 조회 없이 반환합니다.
+ * <ul>
+ *   <li><b>refresh-ahead</b>: {@code refreshAfter}가 지난 가격은 그대로 반환하면서 {@code catalogExecutor}에서 다시 적재합니다.
+ *       자주 조회되는 상품은 만료되기 전에 갱신되므로 조회 경로에서 데이터베이스를 기다리지 않습니다.</li>
+ *   <li><b>만료</b>: {@code expireAfter}가 지난 가격은 조회 시점에 동기로 다시 적재합니다.</li>
+ *   <li><b>이벤트 무효화</b>: 가격 변경({@link ProductPriceChangedEvent})이 커밋되면 즉시 새 가격으로 교체합니다.</li>
+ *   <li><b>미등록 상품</b>: 데이터베이스에 없는 상품은 {@code unknownExpireAfter} 동안 기억하여,
+ *       같은 미등록 상품으로 반복되는 주문이 매번 데이터베이스를 조회하지 않게 합니다. 등록 이벤트를 받으면 바로 지웁니다.</li>
+ * </ul>
+ * 적재와 이벤트가 경합해도 상품 버전이 더 높은 값만 반영하므로 오래된 가격이 새 가격을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+class PriceCache {
+
+    private final ProductRepository products;
+    private final Executor refresher;
+    private final LongSupplier nanoClock;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final long unknownExpireAfterNanos;
+
+    /** 접근 순서 LRU. this로 동기화합니다. */
+    private final Map<String, CachedPrice> entries;
+    /** 미등록으로 확인된 상품과 확인 시각. 접근 순서 LRU이며 this로 동기화합니다. */
+    private final Map<String, Long> unknown;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    PriceCache(ProductRepository products,
+               @Qualifier("catalogExecutor") Executor refresher,
+               PriceCacheProperties properties) {
+        this(products, refresher, properties, System::nanoTime);
+    }
+
+    PriceCache(ProductRepository products, Executor refresher, PriceCacheProperties properties, LongSupplier nanoClock) {
+        this.products = products;
+        this.refresher = refresher;
+        this.nanoClock = nanoClock;
+        this.refreshAfterNanos = properties.refreshAfter().toNanos();
+        this.expireAfterNanos = properties.expireAfter().toNanos();
+        this.unknownExpireAfterNanos = properties.unknownExpireAfter().toNanos();
+        int maxSize = properties.maxSize();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrice> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.unknown = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 상품별 가격을 반환합니다. 존재하지 않는 상품은 결과에 포함되지 않습니다.
+     */
+    Map<String, Long> getAll(Collection<String> productIds) {
+        Map<String, Long> prices = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        List<String> stale = new ArrayList<>();
+
+        long now = nanoClock.getAsLong();
+        synchronized (this) {
+            for (String productId : productIds) {
+                CachedPrice cached = entries.get(productId);
+                if (cached == null && isKnownMissing(productId, now)) {
+                    continue;
+                }
+                if (cached == null || now - cached.loadedAt() >= expireAfterNanos) {
+                    misses.add(productId);
+                    continue;
+                }
+                prices.put(productId, cached.price());
+                if (now - cached.loadedAt() >= refreshAfterNanos) {
+                    stale.add(productId);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            prices.putAll(load(misses));
+        }
+        if (!stale.isEmpty()) {
+            refreshAsync(stale);
+        }
+        return prices;
+    }
+
+    /**
+     * 가격 변경이 커밋되면 캐시를 새 가격으로 교체합니다.
+     */
+    @TransactionalEventListener
+    void on(ProductPriceChangedEvent event) {
+        merge(event.productId(), event.price(), event.version(), nanoClock.getAsLong());
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private Map<String, Long> load(Collection<String> productIds) {
+        List<ProductPrice> loaded = products.findPrices(productIds);
+        long now = nanoClock.getAsLong();
+
+        Map<String, Long> prices = new HashMap<>();
+        for (ProductPrice price : loaded) {
+            prices.put(price.productId(), merge(price.productId(), price.price(), price.version(), now));
+        }
+        synchronized (this) {
+            productIds.stream()
+                    .filter(productId -> !prices.containsKey(productId))
+                    .forEach(productId -> unknown.put(productId, now));
+        }
+        return prices;
+    }
+
+    /**
+     * this로 동기화된 상태에서 호출합니다.
+     */
+    private boolean isKnownMissing(String productId, long now) {
+        Long checkedAt = unknown.get(productId);
+        if (checkedAt == null) {
+            return false;
+        }
+        if (now - checkedAt >= unknownExpireAfterNanos) {
+            unknown.remove(productId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 같은 상품을 동시에 두 번 갱신하지 않도록 갱신 중인 상품을 제외하고 한 번의 조회로 다시 적재합니다.
+     */
+    private void refreshAsync(List<String> stale) {
+        List<String> claimed = stale.stream().filter(refreshing::add).toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    load(claimed);
+                } catch (DataAccessException e) {
+                    log.warn("⚠️ [Catalog] 가격 갱신 실패 (상품 {}개): {}", claimed.size(), e.getMessage());
+                } finally {
+                    claimed.forEach(refreshing::remove);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 갱신 대기열이 가득 찬 경우 이번 갱신은 건너뛰고 다음 조회나 만료 시 다시 적재
+            claimed.forEach(refreshing::remove);
+        }
+    }
+
+    /**
+     * 보유한 값보다 버전이 같거나 높을 때만 반영하고, 반영 후 캐시의 가격을 반환합니다.
+     */
+    private synchronized long merge(String productId, long price, long version, long loadedAt) {
+        unknown.remove(productId);
+        CachedPrice cached = entries.get(productId);
+        if (cached != null && cached.version() > version) {
+            return cached.price();
+        }
+        entries.put(productId, new CachedPrice(price, version, loadedAt));
+        return price;
+    }
+
+    private record CachedPrice(long price, long version, long loadedAt) {
+    }
+}
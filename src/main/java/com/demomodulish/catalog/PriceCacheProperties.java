@@ -0,0 +1,25 @@
+package com.demomodulish.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 가격 근거리 캐시(near cache) 설정입니다.
+ *
+ * @param maxSize      캐시에 보관하는 최대 상품 수. 넘으면 가장 오래 조회되지 않은 상품부터 제거
+ * @param refreshAfter 적재 후 이 시간이 지난 가격은 캐시 값을 바로 반환하고 백그라운드에서 다시 적재(refresh-ahead)
+ * @param expireAfter  적재 후 이 시간이 지난 가격은 사용하지 않고 조회 시점에 다시 적재.
+ *                     가격 변경 이벤트를 받지 못한 경우(다른 인스턴스에서 변경 등) 오래된 가격이 쓰이는 최대 기간입니다.
+ * @param unknownExpireAfter 등록되지 않은 상품을 기억하는 시간. 그동안 같은 상품 조회는 데이터베이스를 거치지 않고 거절되며,
+ *                           다른 인스턴스에서 등록된 상품이 거절되는 최대 기간입니다.
+ */
+@ConfigurationProperties("catalog.price-cache")
+record PriceCacheProperties(
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("30s") Duration refreshAfter,
+        @DefaultValue("5m") Duration expireAfter,
+        @DefaultValue("5s") Duration unknownExpireAfter
+) {
+}
@@ -0,0 +1,39 @@
+package com.demomodulish.catalog;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다른 모듈이 상품 가격을 조회하는 공개 API입니다.
+ * <p>
+ * 가격은 {@link PriceCache}에서 반환하므로 캐시된 상품은 데이터베이스를 조회하지 않습니다.
+ */
+@Service
+public class PriceCatalog {
+
+    private final PriceCache cache;
+
+    PriceCatalog(PriceCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 상품별 현재 가격을 반환합니다.
+     *
+     * @throws UnknownProductException 등록되지 않은 상품이 포함된 경우
+     */
+    public Map<String, Long> pricesOf(Collection<String> productIds) {
+        Map<String, Long> prices = cache.getAll(productIds);
+        List<String> unknown = productIds.stream()
+                .filter(productId -> !prices.containsKey(productId))
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new UnknownProductException(unknown);
+        }
+        return prices;
+    }
+}
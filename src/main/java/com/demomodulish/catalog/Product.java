@@ -0,0 +1,42 @@
+package com.demomodulish.catalog;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+@Getter
+@Entity
+public class Product {
+
+    @Id
+    private String id;
+    private String name;
+    private long price;
+
+    @Version
+    private long version;
+
+    public Product(String id, String name, long price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    protected Product() {}
+
+    void rename(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return 가격이 실제로 바뀌었으면 true
+     */
+    boolean changePrice(long price) {
+        if (this.price == price) {
+            return false;
+        }
+        this.price = price;
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.demomodulish.catalog;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/products")
+class ProductController {
+
+    private final CatalogManagement catalogManagement;
+
+    ProductController(CatalogManagement catalogManagement) {
+        this.catalogManagement = catalogManagement;
+    }
+
+    /**
+     * 상품을 등록하거나 상품명/가격을 변경합니다.
+     */
+    @PutMapping("/{productId}")
+    public ResponseEntity<Void> saveProduct(@PathVariable String productId, @Valid @RequestBody SaveProductRequest request) {
+        catalogManagement.save(productId, request.name(), request.price());
+        return ResponseEntity.noContent().build();
+    }
+
+    record SaveProductRequest(
+            @NotBlank String name,
+            @Min(0) long price
+    ) {}
+}
@@ -0,0 +1,7 @@
+package com.demomodulish.catalog;
+
+/**
+ * 가격 캐시 적재에 필요한 최소 정보만 담은 조회 결과입니다.
+ */
+public record ProductPrice(String productId, long price, long version) {
+}
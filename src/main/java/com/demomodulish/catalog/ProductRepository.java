@@ -0,0 +1,16 @@
+package com.demomodulish.catalog;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, String> {
+
+    /**
+     * 여러 상품의 가격과 버전을 한 번에 조회합니다. 상품명 등 나머지 컬럼은 읽지 않습니다.
+     */
+    @Query("SELECT new com.demomodulish.catalog.ProductPrice(p.id, p.price, p.version) FROM Product p WHERE p.id IN :productIds")
+    List<ProductPrice> findPrices(Collection<String> productIds);
+}
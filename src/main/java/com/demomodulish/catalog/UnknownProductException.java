@@ -0,0 +1,19 @@
+package com.demomodulish.catalog;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카탈로그에 등록되지 않은 상품으로 가격을 조회했음을 나타냅니다.
+ */
+@Getter
+public class UnknownProductException extends RuntimeException {
+
+    private final List<String> productIds;
+
+    UnknownProductException(List<String> productIds) {
+        super("등록되지 않은 상품입니다: " + String.join(", ", productIds));
+        this.productIds = productIds;
+    }
+}
@@ -0,0 +1,2 @@
+@org.springframework.modulith.ApplicationModule
+package com.demomodulish.catalog;
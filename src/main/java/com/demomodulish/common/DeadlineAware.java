@@ -0,0 +1,21 @@
+package com.demomodulish.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 기한(deadline)을 전달하는 사가 이벤트입니다.
+ * <p>
+ * 기한이 지난 주문은 호출자가 이미 포기한 작업이므로, 리스너는 락을 잡거나 외부를 호출하기 전에 확인하고
+ * 기존 실패 이벤트로 일찍 취소합니다.
+ */
+public interface DeadlineAware {
+
+    /**
+     * @return 처리 기한. 기한이 없으면 {@code null}
+     */
+    LocalDateTime deadline();
+
+    default boolean isExpired(LocalDateTime now) {
+        return deadline() != null && !now.isBefore(deadline());
+    }
+}
@@ -1,7 +1,21 @@
 package com.demomodulish.common;
 
+import java.util.List;
+
 public record InventoryFailedEvent(
         String orderId,
-        String reason
-) {
+        String reason,
+        List<LineItem> lines // 재고를 확보하지 못한 주문 품목
+) implements OrderEvent {
+    public InventoryFailedEvent {
+        // 품목 필드가 추가되기 전에 기록된 이벤트 발행은 품목 없이 역직렬화됨
+        lines = lines == null ? List.of() : lines;
+    }
+
+    /**
+     * 품목 정보 없이 실패만 알리는 생성자
+     */
+    public InventoryFailedEvent(String orderId, String reason) {
+        this(orderId, reason, List.of());
+    }
 }
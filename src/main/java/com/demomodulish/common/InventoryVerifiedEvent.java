@@ -1,12 +1,28 @@
 package com.demomodulish.common;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 public record InventoryVerifiedEvent(
         String orderId,
         long totalAmount,
-        String productId,
-        int quantity,
-        Map<String, Integer> deductedBatches // 차감된 배치 정보 추가
-) {
+        List<LineItem> lines,
+        Map<String, Integer> deductedBatches, // 차감된 배치 정보 추가
+        LocalDateTime deadline // 처리 기한 (없으면 null)
+) implements OrderEvent, DeadlineAware {
+    /**
+     * 처리 기한이 없는 주문용 생성자
+     */
+    public InventoryVerifiedEvent(String orderId, long totalAmount, List<LineItem> lines,
+                                  Map<String, Integer> deductedBatches) {
+        this(orderId, totalAmount, lines, deductedBatches, null);
+    }
+
+    /**
+     * 단일 품목 주문용 생성자. 총 주문 금액은 품목 금액입니다.
+     */
+    public InventoryVerifiedEvent(String orderId, LineItem line, Map<String, Integer> deductedBatches) {
+        this(orderId, line.amount(), List.of(line), deductedBatches);
+    }
 }
@@ -0,0 +1,14 @@
+package com.demomodulish.common;
+
+/**
+ * 주문 품목(라인) 정보입니다. 모듈 간 이벤트에서 공통으로 사용합니다.
+ */
+public record LineItem(
+        String productId,
+        int quantity,
+        long unitPrice
+) {
+    public long amount() {
+        return unitPrice * quantity;
+    }
+}
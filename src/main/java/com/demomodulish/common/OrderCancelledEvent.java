@@ -0,0 +1,13 @@
+package com.demomodulish.common;
+
+import java.util.List;
+
+/**
+ * 진행이 멈춘 주문이 취소되었음을 알립니다. 이미 차감된 재고가 있으면 복구해야 합니다.
+ */
+public record OrderCancelledEvent(
+        String orderId,
+        String reason,
+        List<LineItem> lines
+) implements OrderEvent {
+}
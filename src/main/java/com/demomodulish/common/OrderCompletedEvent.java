@@ -1,8 +1,25 @@
 package com.demomodulish.common;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public record OrderCompletedEvent(
         String orderId,
-        String productId,
-        int quantity,
-        long totalAmount // 총 주문 금액 필드 추가
-) {}
+        List<LineItem> lines, // 다건 주문 품목
+        long totalAmount, // 총 주문 금액 필드 추가
+        LocalDateTime deadline // 처리 기한 (없으면 null)
+) implements OrderEvent, DeadlineAware {
+    /**
+     * 처리 기한이 없는 주문용 생성자
+     */
+    public OrderCompletedEvent(String orderId, List<LineItem> lines, long totalAmount) {
+        this(orderId, lines, totalAmount, null);
+    }
+
+    /**
+     * 단일 품목 주문용 생성자. 총 주문 금액은 품목 금액입니다.
+     */
+    public OrderCompletedEvent(String orderId, LineItem line) {
+        this(orderId, List.of(line), line.amount());
+    }
+}
@@ -0,0 +1,9 @@
+package com.demomodulish.common;
+
+/**
+ * 특정 주문에 대한 모듈 간 이벤트입니다. 이벤트 발행 기록을 주문 단위로 찾을 때 사용합니다.
+ */
+public interface OrderEvent {
+
+    String orderId();
+}
@@ -0,0 +1,17 @@
+package com.demomodulish.common;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문이 최종 상태(확정 또는 취소)로 전이되었음을 알립니다.
+ * <p>
+ * 주문은 대기 상태에서 한 번만 최종 상태로 전이하므로 주문마다 한 번만 발행됩니다. 매출 집계용입니다.
+ */
+public record OrderFinishedEvent(
+        String orderId,
+        boolean completed, // true면 확정(COMPLETED), false면 취소(CANCELLED)
+        List<LineItem> lines,
+        LocalDateTime finishedAt // 주문의 마지막 상태 전이 시각(updatedAt)
+) implements OrderEvent {
+}
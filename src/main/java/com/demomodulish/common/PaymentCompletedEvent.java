@@ -1,4 +1,21 @@
 package com.demomodulish.common;
 
-public record PaymentCompletedEvent(String orderId) {
+import java.util.List;
+
+public record PaymentCompletedEvent(
+        String orderId,
+        List<LineItem> lines, // 결제된 주문 품목
+        long totalAmount
+) implements OrderEvent {
+    public PaymentCompletedEvent {
+        // 품목 필드가 추가되기 전에 기록된 이벤트 발행은 품목 없이 역직렬화됨
+        lines = lines == null ? List.of() : lines;
+    }
+
+    /**
+     * 품목 정보 없이 결제 완료만 알리는 생성자
+     */
+    public PaymentCompletedEvent(String orderId) {
+        this(orderId, List.of(), 0L);
+    }
 }
@@ -1,12 +1,18 @@
 package com.demomodulish.common;
 
+import java.util.List;
 import java.util.Map;
 
 public record PaymentFailedEvent(
         String orderId,
         String reason,
-        String productId,
-        int quantity,
+        List<LineItem> lines,
         Map<String, Integer> deductedBatches // 차감된 배치 정보 추가
-) {
+) implements OrderEvent {
+    /**
+     * 단일 품목 주문용 생성자
+     */
+    public PaymentFailedEvent(String orderId, String reason, LineItem line, Map<String, Integer> deductedBatches) {
+        this(orderId, reason, List.of(line), deductedBatches);
+    }
 }
@@ -0,0 +1,13 @@
+package com.demomodulish.common;
+
+/**
+ * 상품 가격이 등록되거나 변경되었음을 알립니다.
+ * <p>
+ * {@code version}은 상품 행의 버전으로, 가격 캐시는 보유한 값보다 새로운 버전만 반영합니다.
+ */
+public record ProductPriceChangedEvent(
+        String productId,
+        long price,
+        long version
+) {
+}
@@ -0,0 +1,187 @@
+package com.demomodulish.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 모듈(order, inventory, payment, catalog, reporting)마다 독립된 커넥션 풀과 리스너 실행기를 구성합니다.
+ * <p>
+ * 한 모듈의 락 경합이나 지연이 커넥션과 스레드를 모두 점유하더라도 다른 모듈(특히 주문 접수)은
+ * 자신의 풀과 실행기로 계속 처리할 수 있습니다. 각 모듈의 리스너는 {@code @Async("<모듈>Executor")}로
+ * 자신의 실행기를 지정하며, 실행기는 작업 실행 동안 해당 모듈의 리소스 그룹을 바인딩합니다.
+ * <p>
+ * order 모듈의 리스너는 모두 결제/재고 결과를 받아 주문을 확정하거나 취소하는 완료/보상 리스너이므로,
+ * 일반 실행기 없이 예약된 스레드의 {@code orderPriorityExecutor}만 가집니다. (order 그룹의 {@code executor-threads}는 사용하지 않습니다.)
+ * (inventory 리스너는 실행기를 거치지 않고 상품 레인에 바로 넣으며, 보상 우선순위는 레인 대기열에서 적용합니다.)
+ */
+@Configuration(proxyBeanMethods = false)
+class ModuleResourceConfiguration {
+
+    @Bean
+    ModuleRoutingDataSource moduleRoutingDataSource(ModuleResourceProperties properties,
+                                                    @Value("${spring.datasource.url}") String url,
+                                                    @Value("${spring.datasource.username:}") String username,
+                                                    @Value("${spring.datasource.password:}") String password,
+                                                    @Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        properties.groups().forEach((name, group) -> {
+            HikariDataSource pool = pool(name + "-pool", url, username, password, driverClassName, group.poolSize());
+            pool.setConnectionTimeout(group.connectionTimeout().toMillis());
+            pools.put(name, pool);
+        });
+        return new ModuleRoutingDataSource(pools, properties.defaultGroup());
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(ModuleResourceProperties properties,
+                                                      ModuleRoutingDataSource primary,
+                                                      @Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+        ModuleResourceProperties.Replicas replicas = properties.replicas();
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        replicas.instances().forEach((name, replica) -> {
+            HikariDataSource pool = pool("replica-" + name + "-pool", replica.url(), replica.username(),
+                    replica.password(), driverClassName, replicas.poolSize());
+            pool.setReadOnly(true);
+            pools.put(name, pool);
+        });
+        return new ReplicaRoutingDataSource(primary, pools, replicas.maxLag(), replicas.lagQuery());
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource입니다.
+     * <p>
+     * 실제 커넥션은 첫 SQL 실행 시점에 획득하므로, 그 전에 읽기 전용으로 표시된 트랜잭션
+     * ({@code @Transactional(readOnly = true)})은 복제본으로, 그 외(쓰기, 비관적 락)는 모듈별 주 커넥션 풀로 라우팅됩니다.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ModuleRoutingDataSource primary, ReplicaRoutingDataSource replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        if (!replicas.replicas().isEmpty()) {
+            dataSource.setReadOnlyDataSource(replicas);
+        }
+        return dataSource;
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor orderPriorityExecutor(ModuleResourceProperties properties) {
+        return modulePriorityExecutor("order", properties.group("order"));
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor inventoryExecutor(ModuleResourceProperties properties) {
+        return moduleExecutor("inventory", properties.group("inventory"));
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor paymentExecutor(ModuleResourceProperties properties) {
+        return moduleExecutor("payment", properties.group("payment"));
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor catalogExecutor(ModuleResourceProperties properties) {
+        return moduleExecutor("catalog", properties.group("catalog"));
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor reportingExecutor(ModuleResourceProperties properties) {
+        return moduleExecutor("reporting", properties.group("reporting"));
+    }
+
+    /**
+     * 모듈별 커넥션 풀과 실행기 상태를 {@code modules.*} 메트릭으로 노출합니다.
+     * (태그: module, 실행기는 추가로 lane=normal|priority)
+     */
+    @Bean
+    MeterBinder moduleResourceMetrics(ModuleRoutingDataSource dataSource,
+                                      ReplicaRoutingDataSource replicas,
+                                      Map<String, ThreadPoolTaskExecutor> executors) {
+        return registry -> {
+            Gauge.builder("modules.datasource.replicas.healthy", replicas, r -> r.healthyReplicas().size())
+                    .register(registry);
+            dataSource.pools().forEach((module, pool) -> {
+                poolGauge(registry, "modules.datasource.connections.active", module, pool, HikariPoolMXBean::getActiveConnections);
+                poolGauge(registry, "modules.datasource.connections.idle", module, pool, HikariPoolMXBean::getIdleConnections);
+                poolGauge(registry, "modules.datasource.connections.pending", module, pool, HikariPoolMXBean::getThreadsAwaitingConnection);
+                Gauge.builder("modules.datasource.connections.max", pool, HikariDataSource::getMaximumPoolSize)
+                        .tag("module", module)
+                        .register(registry);
+            });
+            dataSource.pools().keySet().forEach(module -> {
+                executorGauges(registry, module, "normal", executors.get(module + "Executor"));
+                executorGauges(registry, module, "priority", executors.get(module + "PriorityExecutor"));
+            });
+        };
+    }
+
+    private static ThreadPoolTaskExecutor moduleExecutor(String module, ModuleResourceProperties.Group group) {
+        return executor(module, module + "-", group.executorThreads(), group.queueCapacity());
+    }
+
+    private static ThreadPoolTaskExecutor modulePriorityExecutor(String module, ModuleResourceProperties.Group group) {
+        return executor(module, module + "-priority-", group.priorityThreads(), group.queueCapacity());
+    }
+
+    private static ThreadPoolTaskExecutor executor(String module, String threadNamePrefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(task -> ModuleResourceContext.wrap(module, task));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    private static HikariDataSource pool(String poolName, String url, String username, String password,
+                                         String driverClassName, int poolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        if (StringUtils.hasText(driverClassName)) {
+            pool.setDriverClassName(driverClassName);
+        }
+        pool.setMaximumPoolSize(poolSize);
+        return pool;
+    }
+
+    private static void executorGauges(MeterRegistry registry, String module, String lane, ThreadPoolTaskExecutor executor) {
+        if (executor == null) {
+            return;
+        }
+        Gauge.builder("modules.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tags("module", module, "lane", lane)
+                .register(registry);
+        Gauge.builder("modules.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tags("module", module, "lane", lane)
+                .register(registry);
+        Gauge.builder("modules.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tags("module", module, "lane", lane)
+                .register(registry);
+    }
+
+    private static void poolGauge(MeterRegistry registry, String name, String module,
+                                  HikariDataSource pool, ToIntFunction<HikariPoolMXBean> metric) {
+        Gauge.builder(name, pool, p -> p.getHikariPoolMXBean() == null ? 0 : metric.applyAsInt(p.getHikariPoolMXBean()))
+                .tag("module", module)
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.demomodulish.infrastructure;
+
+/**
+ * 현재 스레드가 어느 모듈의 리소스 그룹(커넥션 풀)을 사용하는지 보관합니다.
+ * <p>
+ * 모듈 실행기(예: {@code inventoryExecutor})에서 실행되는 작업에는 자동으로 바인딩되며,
+ * 모듈이 직접 관리하는 스레드는 {@link #wrap(String, Runnable)}로 감싸서 바인딩합니다.
+ * 바인딩되지 않은 스레드(HTTP 요청 등)는 기본 그룹을 사용합니다.
+ */
+public final class ModuleResourceContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ModuleResourceContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업이 실행되는 동안 주어진 리소스 그룹을 바인딩하는 {@link Runnable}을 반환합니다.
+     */
+    public static Runnable wrap(String group, Runnable task) {
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(group);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
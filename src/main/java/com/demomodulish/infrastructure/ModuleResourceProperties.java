@@ -0,0 +1,84 @@
+package com.demomodulish.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모듈별 리소스 그룹 설정입니다. 그룹 이름은 {@code @ApplicationModule} 이름(order, inventory, payment, catalog, reporting)과 같습니다.
+ *
+ * @param defaultGroup 리소스 그룹이 바인딩되지 않은 스레드가 사용하는 그룹
+ * @param groups       그룹별 커넥션 풀/실행기 크기
+ * @param replicas     읽기 전용 트랜잭션이 사용하는 복제본 설정
+ */
+@ConfigurationProperties("modules.resources")
+record ModuleResourceProperties(
+        @DefaultValue("order") String defaultGroup,
+        Map<String, Group> groups,
+        @DefaultValue Replicas replicas
+) {
+    private static final Group DEFAULT_GROUP = new Group(10, 8, 2, 10_000, Duration.ofSeconds(30));
+    private static final Group AUXILIARY_GROUP = new Group(2, 2, 1, 10_000, Duration.ofSeconds(30));
+
+    ModuleResourceProperties {
+        Map<String, Group> merged = new LinkedHashMap<>();
+        merged.put("order", DEFAULT_GROUP);
+        merged.put("inventory", DEFAULT_GROUP);
+        merged.put("payment", DEFAULT_GROUP);
+        merged.put("catalog", AUXILIARY_GROUP);
+        merged.put("reporting", AUXILIARY_GROUP);
+        if (groups != null) {
+            merged.putAll(groups);
+        }
+        groups = Map.copyOf(merged);
+        if (replicas == null) {
+            replicas = new Replicas(Duration.ofSeconds(5), Replicas.POSTGRES_LAG_QUERY, 10, Map.of());
+        }
+    }
+
+    Group group(String name) {
+        return groups.getOrDefault(name, DEFAULT_GROUP);
+    }
+
+    /**
+     * @param poolSize          커넥션 풀 최대 크기
+     * @param executorThreads   리스너 실행기 스레드 수
+     * @param priorityThreads   보상/완료 리스너 전용 우선순위 실행기 스레드 수. 신규 주문 리스너와 공유하지 않는 예약 용량입니다.
+     * @param queueCapacity     리스너 실행기 대기열 크기
+     * @param connectionTimeout 커넥션 획득 대기 시간
+     */
+    record Group(
+            @DefaultValue("10") int poolSize,
+            @DefaultValue("8") int executorThreads,
+            @DefaultValue("2") int priorityThreads,
+            @DefaultValue("10000") int queueCapacity,
+            @DefaultValue("30s") Duration connectionTimeout
+    ) {
+    }
+
+    /**
+     * @param maxLag    허용하는 최대 복제 지연. 초과한 복제본은 지연이 줄어들 때까지 사용하지 않습니다.
+     * @param lagQuery  복제본에서 복제 지연(초)을 조회하는 쿼리
+     * @param poolSize  복제본별 커넥션 풀 최대 크기
+     * @param instances 복제본 이름별 접속 정보. 비어 있으면 모든 읽기가 주 데이터베이스를 사용합니다.
+     */
+    record Replicas(
+            @DefaultValue("5s") Duration maxLag,
+            @DefaultValue(Replicas.POSTGRES_LAG_QUERY) String lagQuery,
+            @DefaultValue("10") int poolSize,
+            Map<String, Replica> instances
+    ) {
+        static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+        Replicas {
+            instances = instances == null ? Map.of() : Map.copyOf(instances);
+        }
+    }
+
+    record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.demomodulish.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드의 리소스 그룹({@link ModuleResourceContext})에 해당하는 모듈 전용 커넥션 풀로 라우팅합니다.
+ */
+class ModuleRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+    private final String defaultGroup;
+
+    ModuleRoutingDataSource(Map<String, HikariDataSource> pools, String defaultGroup) {
+        this.pools = Map.copyOf(pools);
+        this.defaultGroup = defaultGroup;
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(defaultGroup));
+        setLenientFallback(true);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String group = ModuleResourceContext.current();
+        return group != null ? group : defaultGroup;
+    }
+
+    Map<String, HikariDataSource> pools() {
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
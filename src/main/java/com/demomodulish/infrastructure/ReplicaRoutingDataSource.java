@@ -0,0 +1,104 @@
+package com.demomodulish.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 복제본(replica) 커넥션 풀로 라우팅합니다.
+ * <p>
+ * 복제 지연은 {@code modules.resources.replicas.lag-check-interval-millis}마다 측정하며, 지연이
+ * {@code max-lag}를 넘거나 측정에 실패한 복제본은 제외합니다. 정상 복제본은 라운드 로빈으로 사용하고,
+ * 정상 복제본이 하나도 없으면 주 데이터베이스(모듈별 커넥션 풀)로 대체합니다.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthy = List.of();
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas, Duration maxLag, String lagQuery) {
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * 복제본별 복제 지연을 측정하여 사용 가능한 복제본 목록을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${modules.resources.replicas.lag-check-interval-millis:1000}")
+    void refreshHealth() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        List<String> available = new ArrayList<>();
+        replicas.forEach((name, pool) -> measureLag(name, pool)
+                .filter(lag -> lag.compareTo(maxLag) <= 0)
+                .ifPresent(lag -> available.add(name)));
+        available.sort(null);
+
+        if (!available.equals(healthy)) {
+            log.info("📚 [Replica] 사용 가능한 복제본 변경: {} -> {}", healthy, available);
+        }
+        healthy = List.copyOf(available);
+    }
+
+    private Optional<Duration> measureLag(String name, DataSource pool) {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            if (!result.next()) {
+                return Optional.empty();
+            }
+            return Optional.of(Duration.ofMillis(Math.round(result.getDouble(1) * 1000)));
+        } catch (SQLException e) {
+            log.warn("⚠️ [Replica] 복제 지연 측정 실패 ({}): {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    List<String> healthyReplicas() {
+        return healthy;
+    }
+
+    Map<String, HikariDataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
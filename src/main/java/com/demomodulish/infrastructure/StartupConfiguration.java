@@ -0,0 +1,32 @@
+package com.demomodulish.infrastructure;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 기동 시간 최적화 모드(startup 프로파일) 설정입니다.
+ * <p>
+ * {@code spring.main.lazy-initialization=true}일 때 {@code startup.lazy-packages}에 속한 비핵심 빈(기본값: springdoc)만
+ * 지연 초기화하고, 리스너·실행기·스케줄러처럼 주문 처리에 필요한 나머지 빈은 기동 시 즉시 초기화합니다.
+ * 지연 초기화가 꺼져 있으면 이 필터는 사용되지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+class StartupConfiguration {
+
+    static final List<String> DEFAULT_LAZY_PACKAGES = List.of("org.springdoc");
+
+    @Bean
+    static LazyInitializationExcludeFilter nonCriticalBeansOnly(Environment environment) {
+        List<String> lazyPackages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(DEFAULT_LAZY_PACKAGES);
+        return (beanName, beanDefinition, beanType) -> beanType == null
+                || lazyPackages.stream().noneMatch(lazyPackage -> beanType.getName().startsWith(lazyPackage + "."));
+    }
+}
@@ -0,0 +1,2 @@
+@org.springframework.modulith.ApplicationModule // 모듈별 리소스 그룹(커넥션 풀, 실행기) 구성
+package com.demomodulish.infrastructure;
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.demomodulish.inventory;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 락 경합이 큰 상품 목록을 노출합니다. ({@code GET /actuator/lockcontention?limit=10})
+ */
+@Component
+@Endpoint(id = "lockcontention")
+class ContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final ContentionProfiler profiler;
+
+    ContentionEndpoint(ContentionProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public List<ContentionProfiler.ProductContention> topContended(@OptionalParameter Integer limit) {
+        return profiler.top(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
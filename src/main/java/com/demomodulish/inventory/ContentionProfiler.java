@@ -0,0 +1,248 @@
+package com.demomodulish.inventory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품별 재고 락 대기 시간, 보유 시간, 재시도 횟수를 고정 크기 Top-K 스케치(Space-Saving)로 추적합니다.
+ * <p>
+ * 최대 {@code inventory.contention.capacity}개 상품만 추적하며, 가득 찬 상태에서 새 상품이 들어오면 누적 대기 시간이
+ * 가장 작은 항목을 내보내고 그 값을 오차로 물려받습니다. 따라서 전체 대기 시간의 1/capacity 이상을 차지하는 상품은
+ * 항상 추적되며, 상품 수가 수백만이어도 메모리는 일정합니다. 누적값은 {@code inventory.contention.decay-interval-millis}마다
+ * 절반으로 줄여 최근 경합이 순위에 반영되게 합니다.
+ * <p>
+ * 이미 추적 중인 상품의 기록은 그 항목의 락만 잡으므로 서로 다른 상품의 기록은 경쟁하지 않습니다.
+ * 새 상품 추가와 내보내기만 공용 락을 사용하며, 가장 가벼운 항목은 누적값 최소 힙에서 O(log k)로 찾습니다.
+ * 힙의 값은 넣을 당시의 누적값이라 이후 증가분을 반영하지 않으므로, 꺼낸 값이 현재 누적값과 다르면 현재 값으로 다시 넣습니다.
+ */
+@Component
+class ContentionProfiler {
+
+    private final int capacity;
+    private final Map<String, Entry> entries;
+    /** 추적 중인 항목마다 하나씩, 넣을 당시의 누적값 순으로 정렬됩니다. {@code admission} 락으로 보호합니다. */
+    private final PriorityQueue<Ranked> lightest;
+    private final Object admission = new Object();
+
+    ContentionProfiler(@Value("${inventory.contention.capacity:100}") int capacity) {
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>(capacity * 2);
+        this.lightest = new PriorityQueue<>(capacity, Comparator.comparingLong(Ranked::weight));
+    }
+
+    /**
+     * 락 획득까지 기다린 시간을 기록합니다.
+     */
+    void recordWait(String productId, long waitNanos) {
+        while (true) {
+            Entry entry = entries.get(productId);
+            if (entry == null) {
+                entry = admit(productId);
+            }
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue; // 조회와 기록 사이에 내보내진 항목이면 다시 추가
+                }
+                entry.weight += waitNanos;
+                entry.wait.record(waitNanos);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 락 보유 시간을 기록합니다. 추적 중인 상품만 기록하며, 보유 시간 때문에 다른 상품을 내보내지는 않습니다.
+     */
+    void recordHold(String productId, long holdNanos) {
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (!entry.evicted) {
+                entry.hold.record(holdNanos);
+            }
+        }
+    }
+
+    /**
+     * 락 경합(동시성 예외)으로 인한 재시도를 기록합니다. 추적 중인 상품만 기록합니다.
+     */
+    void recordRetry(String productId) {
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (!entry.evicted) {
+                entry.retries++;
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때(락 해제 시점) 상품별 락 보유 시간을 기록합니다.
+     * 트랜잭션 동기화가 없으면 즉시 기록합니다.
+     *
+     * @param acquiredAt 상품별 락 획득 시각 ({@link System#nanoTime()})
+     */
+    void recordHoldOnCompletion(Map<String, Long> acquiredAt) {
+        if (acquiredAt.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordHolds(acquiredAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordHolds(acquiredAt);
+            }
+        });
+    }
+
+    private void recordHolds(Map<String, Long> acquiredAt) {
+        long now = System.nanoTime();
+        acquiredAt.forEach((productId, acquired) -> recordHold(productId, now - acquired));
+    }
+
+    /**
+     * 누적 대기 시간이 큰 순으로 상위 상품을 반환합니다.
+     */
+    List<ProductContention> top(int limit) {
+        List<ProductContention> snapshot = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            synchronized (entry) {
+                if (!entry.evicted) {
+                    snapshot.add(entry.toContention());
+                }
+            }
+        }
+        return snapshot.stream()
+                .sorted(Comparator.comparingLong(ProductContention::totalWaitMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.contention.decay-interval-millis:60000}",
+            initialDelayString = "${inventory.contention.decay-interval-millis:60000}")
+    void decay() {
+        synchronized (admission) {
+            lightest.clear();
+            for (Entry entry : entries.values()) {
+                synchronized (entry) {
+                    entry.weight >>= 1;
+                    entry.error >>= 1;
+                    entry.retries >>= 1;
+                    entry.wait.halve();
+                    entry.hold.halve();
+                    if (entry.weight == 0 && entry.wait.count() == 0) {
+                        entry.evicted = true;
+                        entries.remove(entry.productId);
+                    } else {
+                        lightest.add(new Ranked(entry, entry.weight));
+                    }
+                }
+            }
+        }
+    }
+
+    private Entry admit(String productId) {
+        synchronized (admission) {
+            Entry existing = entries.get(productId);
+            if (existing != null) {
+                return existing;
+            }
+            Entry entry = new Entry(productId);
+            if (entries.size() >= capacity) {
+                long inherited = evictLightest();
+                entry.weight = inherited;
+                entry.error = inherited;
+            }
+            entries.put(productId, entry);
+            lightest.add(new Ranked(entry, entry.weight));
+            return entry;
+        }
+    }
+
+    /**
+     * 누적 대기 시간이 가장 작은 항목을 내보내고 그 누적값을 반환합니다. {@code admission} 락 안에서 호출합니다.
+     */
+    private long evictLightest() {
+        while (true) {
+            Ranked candidate = lightest.remove();
+            long current;
+            synchronized (candidate.entry()) {
+                current = candidate.entry().weight;
+                if (current == candidate.weight()) {
+                    // 다른 항목의 현재 누적값은 힙에 넣은 값 이상이므로 이 항목이 가장 가볍다
+                    candidate.entry().evicted = true;
+                    entries.remove(candidate.entry().productId);
+                    return current;
+                }
+            }
+            lightest.add(new Ranked(candidate.entry(), current));
+        }
+    }
+
+    /**
+     * 추적 중인 상품의 누적값입니다. 모든 필드는 항목 자체의 락으로 보호합니다.
+     */
+    private static final class Entry {
+        private final String productId;
+        private long weight;
+        private long error;
+        private long retries;
+        private boolean evicted;
+        private final LatencyHistogram wait = new LatencyHistogram();
+        private final LatencyHistogram hold = new LatencyHistogram();
+
+        Entry(String productId) {
+            this.productId = productId;
+        }
+
+        ProductContention toContention() {
+            return new ProductContention(productId,
+                    TimeUnit.NANOSECONDS.toMillis(weight),
+                    TimeUnit.NANOSECONDS.toMillis(error),
+                    retries,
+                    wait.snapshot(),
+                    hold.snapshot());
+        }
+    }
+
+    private record Ranked(Entry entry, long weight) {
+    }
+
+    /**
+     * 상품별 락 경합 현황입니다.
+     *
+     * @param productId       상품 ID
+     * @param totalWaitMillis 누적 락 대기 시간 추정치 (실제 값은 {@code totalWaitMillis - errorMillis} 이상)
+     * @param errorMillis     추정치의 최대 과대 오차
+     * @param retries         락 경합으로 인한 재시도 횟수
+     * @param waitTime        락 대기 시간 분포
+     * @param holdTime        락 보유 시간 분포
+     */
+    record ProductContention(
+            String productId,
+            long totalWaitMillis,
+            long errorMillis,
+            long retries,
+            LatencyHistogram.Snapshot waitTime,
+            LatencyHistogram.Snapshot holdTime
+    ) {
+    }
+}
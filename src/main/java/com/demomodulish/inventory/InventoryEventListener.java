@@ -0,0 +1,63 @@
+package com.demomodulish.inventory;
+
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCancelledEvent;
+import com.demomodulish.common.OrderCompletedEvent;
+import com.demomodulish.common.PaymentFailedEvent;
+import com.demomodulish.inventory.ProductLanes.Priority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * inventory 모듈로 들어오는 이벤트를 상품 레인({@link ProductLanes})으로 분배합니다.
+ * <p>
+ * 레인 키는 주문에서 가장 작은 상품 ID, 즉 {@link InventoryService}가 가장 먼저 락을 잡는 상품입니다.
+ * 리스너는 커밋 직후 레인에 작업을 넣고 그 결과 future를 반환할 뿐 기다리지 않으므로, 한 상품의 레인이 밀려도
+ * 다른 상품의 이벤트 전달을 막지 않습니다. 할당/복구 트랜잭션은 레인 스레드에서 실행됩니다.
+ * 이벤트 발행 기록은 반환한 future가 완료될 때 완료 처리되고, 레인 작업이 실패하면 미완료로 남아 재처리 대상이 됩니다.
+ * <p>
+ * 재고 복구/취소(보상)는 레인에서 {@link ProductLanes.Priority#HIGH}로 실행하므로,
+ * 신규 주문 할당이 레인 대기열에 쌓여 있어도 그 뒤에서 기다리지 않습니다.
+ */
+@Component
+class InventoryEventListener {
+
+    private final ProductLanes lanes;
+    private final InventoryService inventoryService;
+
+    InventoryEventListener(ProductLanes lanes, InventoryService inventoryService) {
+        this.lanes = lanes;
+        this.inventoryService = inventoryService;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener
+    public CompletableFuture<Void> on(OrderCompletedEvent event) {
+        return lanes.submit(laneKey(event.lines()), () -> inventoryService.allocate(event));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener
+    public CompletableFuture<Void> on(PaymentFailedEvent event) {
+        return lanes.submit(laneKey(event.lines()), Priority.HIGH, () -> inventoryService.restore(event));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener
+    public CompletableFuture<Void> on(OrderCancelledEvent event) {
+        return lanes.submit(laneKey(event.lines()), Priority.HIGH, () -> inventoryService.cancel(event));
+    }
+
+    private static String laneKey(List<LineItem> lines) {
+        return lines.stream()
+                .map(LineItem::productId)
+                .min(Comparator.naturalOrder())
+                .orElse("");
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,10 +14,24 @@ public interface InventoryRepository extends JpaRepository<InventoryItem, String
      * <p>
      * 동시성 이슈를 방지하기 위해 조회 시점에 Row Lock을 걸어 다른 트랜잭션의 접근을 막습니다.
      * 유통기한이 임박한 순서(FIFO)로 정렬하여 가져오며, 재고가 0인 항목은 제외합니다.
+     * 같은 유통기한 내에서는 ID 순으로 정렬하여 락 획득 순서를 고정합니다.
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT b FROM InventoryItem b WHERE b.productId = :productId AND b.quantity > 0 ORDER BY b.expirationDate ASC")
+    @Query("SELECT b FROM InventoryItem b WHERE b.productId = :productId AND b.quantity > 0 ORDER BY b.expirationDate ASC, b.id ASC")
     List<InventoryItem> findAllByProductIdWithLock(String productId);
 
+    /**
+     * 재고 복구를 위해 특정 상품의 모든 배치(재고 0 포함)를 비관적 락과 함께 조회합니다.
+     * <p>
+     * 차감 시와 동일한 정렬 순서로 락을 획득하여 차감/복구 트랜잭션 간 교착 상태를 방지합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM InventoryItem b WHERE b.productId = :productId ORDER BY b.expirationDate ASC, b.id ASC")
+    List<InventoryItem> findAllByProductIdForRestore(String productId);
+
+    /**
+     * 락 없이 특정 상품의 모든 배치를 조회합니다. 읽기 전용 트랜잭션이므로 복제본이 설정되어 있으면 복제본에서 조회합니다.
+     */
+    @Transactional(readOnly = true)
     List<InventoryItem> findAllByProductId(String productId);
 }
@@ -2,15 +2,17 @@ package com.demomodulish.inventory;
 
 import com.demomodulish.common.InventoryFailedEvent;
 import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCancelledEvent;
 import com.demomodulish.common.OrderCompletedEvent;
 import com.demomodulish.common.PaymentFailedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.ConcurrencyFailureException;
-import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,10 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -27,31 +33,54 @@ class InventoryService {
     private final InventoryRepository inventoryRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
     private final ApplicationEventPublisher events;
+    private final ContentionProfiler contention;
 
     InventoryService(InventoryRepository inventoryRepository,
                      InventoryTransactionRepository inventoryTransactionRepository,
-                     ApplicationEventPublisher events) {
+                     ApplicationEventPublisher events,
+                     ContentionProfiler contention) {
         this.inventoryRepository = inventoryRepository;
         this.inventoryTransactionRepository = inventoryTransactionRepository;
         this.events = events;
+        this.contention = contention;
     }
 
-    @Async
+    /**
+     * 주문의 재고를 할당하고 결과 이벤트를 발행합니다. {@link InventoryEventListener}가 상품 레인에서 호출합니다.
+     * <p>
+     * 처리 기한이 지난 주문은 락을 잡지 않고 실패 이벤트로 취소합니다.
+     * 같은 주문이 동시에 전달되면 배치 락을 얻은 뒤 처리 기록을 다시 확인하여, 늦게 온 쪽은 차감을 되돌리고 재시도합니다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Retryable(
             retryFor = {ConcurrencyFailureException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
-    @ApplicationModuleListener
-    public void on(OrderCompletedEvent event) {
+    public void allocate(OrderCompletedEvent event) {
+        RetryContext retry = RetrySynchronizationManager.getContext();
+        if (retry != null && retry.getRetryCount() > 0) {
+            // 락 경합으로 재시도된 주문은 주문의 모든 상품에 재시도를 기록
+            event.lines().stream().map(LineItem::productId).distinct().forEach(contention::recordRetry);
+        }
+
         if (inventoryTransactionRepository.existsById(event.orderId())) {
             log.info("✋ [Inventory] 이미 처리된 주문입니다. (Idempotency check): {}", event.orderId());
             return;
         }
 
+        if (event.isExpired(LocalDateTime.now())) {
+            recordTransaction(event.orderId(), Map.of());
+            publishFailure(event, "처리 기한 초과 (기한: %s)".formatted(event.deadline()));
+            return;
+        }
+
         DeductionResult result = deductInventory(event);
-        recordTransaction(event.orderId());
+        if (inventoryTransactionRepository.existsById(event.orderId())) {
+            // 같은 주문이 동시에 전달되어 락을 기다리는 동안 먼저 할당됨: 재시도하면 위의 멱등성 검사에서 건너뜀
+            throw new ConcurrencyFailureException("같은 주문의 재고가 동시에 할당되었습니다: " + event.orderId());
+        }
+        recordTransaction(event.orderId(), result.getDeductedBatches());
 
         if (result.isFailure()) {
             publishFailure(event, result.getReason());
@@ -60,28 +89,127 @@ class InventoryService {
         }
     }
 
-    @Async
+    /**
+     * 결제 실패 시 차감했던 배치를 복구합니다. 이미 복구된 주문(예: 먼저 취소된 주문)은 건너뜁니다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @ApplicationModuleListener
-    public void on(PaymentFailedEvent event) {
+    public void restore(PaymentFailedEvent event) {
+        Optional<InventoryTransaction> transaction = inventoryTransactionRepository.findByIdForUpdate(event.orderId());
+        if (transaction.isPresent() && !transaction.get().markRestored()) {
+            log.info("✋ [Inventory] 이미 복구된 주문입니다: {}", event.orderId());
+            return;
+        }
+
         log.info("🔄 [Inventory] 결제 실패로 인한 재고 복구 수행: {}", event.orderId());
-        event.deductedBatches().forEach((batchId, quantity) -> inventoryRepository.findById(batchId)
-                .ifPresent(item -> item.increase(quantity)));
+        restoreBatches(event.lines(), event.deductedBatches());
+    }
+
+    /**
+     * 멈춘 주문이 취소되면 처리 기록에 남은 차감 배치를 복구합니다.
+     * <p>
+     * 아직 할당 전이면 취소 기록을 남겨, 이후 할당 이벤트가 재발행되어 도착해도 재고를 차감하지 않게 합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void cancel(OrderCancelledEvent event) {
+        Optional<InventoryTransaction> found = inventoryTransactionRepository.findByIdForUpdate(event.orderId());
+        if (found.isEmpty()) {
+            log.info("🧹 [Inventory] 할당 전에 취소된 주문 기록: {}", event.orderId());
+            inventoryTransactionRepository.save(
+                    InventoryTransaction.cancelledBeforeAllocation(event.orderId(), LocalDateTime.now()));
+            return;
+        }
+
+        InventoryTransaction transaction = found.get();
+        if (!transaction.markRestored()) {
+            log.info("✋ [Inventory] 이미 복구된 주문입니다: {}", event.orderId());
+            return;
+        }
+        if (!transaction.getDeductedBatches().isEmpty()) {
+            log.info("🔄 [Inventory] 주문 취소로 인한 재고 복구 수행: {}", event.orderId());
+            restoreBatches(event.lines(), transaction.getDeductedBatches());
+        }
+    }
+
+    /**
+     * 차감 시와 동일하게 상품 ID 오름차순으로 락을 획득한 뒤 한 트랜잭션에서 모든 품목을 복구합니다.
+     */
+    private void restoreBatches(List<LineItem> lines, Map<String, Integer> deductedBatches) {
+        Map<String, Integer> remainToRestore = new HashMap<>(deductedBatches);
+        Map<String, Long> acquiredAt = new HashMap<>();
+
+        try {
+            for (String productId : requestedQuantities(lines).keySet()) {
+                for (InventoryItem batch : lock(productId, inventoryRepository::findAllByProductIdForRestore, acquiredAt)) {
+                    Integer quantity = remainToRestore.remove(batch.getId());
+                    if (quantity != null) {
+                        batch.increase(quantity);
+                    }
+                }
+            }
+
+            // 품목 정보와 일치하지 않는 배치는 개별 조회로 복구
+            remainToRestore.forEach((batchId, quantity) -> inventoryRepository.findById(batchId)
+                    .ifPresent(item -> item.increase(quantity)));
+        } finally {
+            contention.recordHoldOnCompletion(acquiredAt);
+        }
     }
 
+    /**
+     * 주문의 모든 품목을 하나의 트랜잭션에서 할당합니다.
+     * <p>
+     * 교착 상태를 방지하기 위해 상품 ID 오름차순(전역 고정 순서)으로 락을 획득하며,
+     * 모든 품목의 유효 재고를 확인한 뒤에만 차감합니다. 한 품목이라도 부족하면 아무것도 차감하지 않습니다.
+     */
     private DeductionResult deductInventory(OrderCompletedEvent event) {
-        String productId = event.productId();
-        int requestedQuantity = event.quantity();
-        List<InventoryItem> batches = inventoryRepository.findAllByProductIdWithLock(productId);
+        SortedMap<String, Integer> requested = requestedQuantities(event.lines());
         LocalDateTime now = LocalDateTime.now();
+        Map<String, List<InventoryItem>> lockedBatches = new HashMap<>();
+        Map<String, Long> acquiredAt = new HashMap<>();
+
+        try {
+            for (Map.Entry<String, Integer> entry : requested.entrySet()) {
+                List<InventoryItem> batches = lock(entry.getKey(), inventoryRepository::findAllByProductIdWithLock, acquiredAt);
+                int totalAvailable = calculateAvailableQuantity(batches, now);
+
+                if (totalAvailable < entry.getValue()) {
+                    return DeductionResult.failure("유효 재고 부족 (상품: %s, 요청: %d, 가능: %d)"
+                            .formatted(entry.getKey(), entry.getValue(), totalAvailable));
+                }
+                lockedBatches.put(entry.getKey(), batches);
+            }
 
-        int totalAvailable = calculateAvailableQuantity(batches, now);
+            Map<String, Integer> deductedBatches = new HashMap<>();
+            requested.forEach((productId, quantity) ->
+                    performDeduction(lockedBatches.get(productId), now, quantity, deductedBatches));
 
-        if (totalAvailable < requestedQuantity) {
-            return DeductionResult.failure("유효 재고 부족 (요청: %d, 가능: %d)".formatted(requestedQuantity, totalAvailable));
+            int totalRequested = requested.values().stream().mapToInt(Integer::intValue).sum();
+            return DeductionResult.success(deductedBatches, totalRequested);
+        } finally {
+            contention.recordHoldOnCompletion(acquiredAt);
         }
+    }
+
+    /**
+     * 상품의 배치를 비관적 락으로 조회하고, 락 대기 시간과 획득 시각(보유 시간 계산용)을 기록합니다.
+     */
+    private List<InventoryItem> lock(String productId, Function<String, List<InventoryItem>> lockingQuery,
+                                     Map<String, Long> acquiredAt) {
+        long requestedAt = System.nanoTime();
+        List<InventoryItem> batches = lockingQuery.apply(productId);
+        long acquired = System.nanoTime();
+        contention.recordWait(productId, acquired - requestedAt);
+        acquiredAt.put(productId, acquired);
+        return batches;
+    }
 
-        return performDeduction(batches, now, requestedQuantity);
+    /**
+     * 품목을 상품별로 합산하여 락 획득 순서(상품 ID 오름차순)로 정렬합니다.
+     */
+    private SortedMap<String, Integer> requestedQuantities(List<LineItem> lines) {
+        SortedMap<String, Integer> requested = new TreeMap<>();
+        lines.forEach(line -> requested.merge(line.productId(), line.quantity(), Integer::sum));
+        return requested;
     }
 
     private int calculateAvailableQuantity(List<InventoryItem> batches, LocalDateTime now) {
@@ -91,9 +219,9 @@ class InventoryService {
                 .sum();
     }
 
-    private DeductionResult performDeduction(List<InventoryItem> batches, LocalDateTime now, int requestedQuantity) {
+    private void performDeduction(List<InventoryItem> batches, LocalDateTime now, int requestedQuantity,
+                                  Map<String, Integer> deductedBatches) {
         int remainToDeduct = requestedQuantity;
-        Map<String, Integer> deductedBatches = new HashMap<>();
 
         for (InventoryItem batch : batches) {
             if (batch.getExpirationDate().isBefore(now)) {
@@ -109,28 +237,26 @@ class InventoryService {
                 break;
             }
         }
-
-        return DeductionResult.success(deductedBatches, requestedQuantity);
     }
 
-    private void recordTransaction(String orderId) {
-        inventoryTransactionRepository.save(new InventoryTransaction(orderId, LocalDateTime.now()));
+    private void recordTransaction(String orderId, Map<String, Integer> deductedBatches) {
+        inventoryTransactionRepository.save(new InventoryTransaction(orderId, LocalDateTime.now(), deductedBatches));
     }
 
     private void publishSuccess(OrderCompletedEvent event, Map<String, Integer> deductedBatches, int quantity) {
-        log.info("🏭 [Inventory] 총 {}개 차감 완료", quantity);
+        log.info("🏭 [Inventory] {}개 품목, 총 {}개 차감 완료", event.lines().size(), quantity);
         events.publishEvent(new InventoryVerifiedEvent(
                 event.orderId(),
                 event.totalAmount(),
-                event.productId(),
-                event.quantity(),
-                deductedBatches
+                event.lines(),
+                deductedBatches,
+                event.deadline()
         ));
     }
 
     private void publishFailure(OrderCompletedEvent event, String reason) {
         log.info("🚨 [Inventory] 실패: {} -> 주문 취소 요청", reason);
-        events.publishEvent(new InventoryFailedEvent(event.orderId(), reason));
+        events.publishEvent(new InventoryFailedEvent(event.orderId(), reason, event.lines()));
     }
 
     private record DeductionResult(Map<String, Integer> deductedBatches, int requestedQuantity, String reason, boolean isFailure) {
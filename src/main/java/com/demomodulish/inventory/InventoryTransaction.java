@@ -1,16 +1,104 @@
 package com.demomodulish.inventory;
 
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * 주문별 재고 처리 기록입니다. 중복 처리 방지(멱등성)와 보상(재고 복구)의 기준이 됩니다.
+ * <p>
+ * 새 기록은 항상 INSERT 하므로, 같은 주문의 기록이 동시에 저장되어도 먼저 저장된 기록을 덮어쓰지 않고 키 중복으로 실패합니다.
+ */
+@Getter
 @Entity
 @NoArgsConstructor
-@AllArgsConstructor
-class InventoryTransaction {
+class InventoryTransaction implements Persistable<String> {
     @Id
     private String orderId;
     private LocalDateTime processedAt;
+
+    /**
+     * 이 주문으로 차감한 배치별 수량
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "inventory_transaction_batches", joinColumns = @JoinColumn(name = "order_id"))
+    @MapKeyColumn(name = "batch_id")
+    @Column(name = "quantity")
+    private Map<String, Integer> deductedBatches = new HashMap<>();
+
+    /**
+     * 차감한 재고를 이미 복구했는지 여부 (결제 실패와 주문 취소가 모두 도착해도 한 번만 복구)
+     */
+    @ColumnDefault("false")
+    private boolean restored;
+
+    /**
+     * 주문 ID를 직접 할당하므로 저장 시 SELECT(merge) 없이 바로 INSERT 하기 위한 플래그
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    InventoryTransaction(String orderId, LocalDateTime processedAt) {
+        this(orderId, processedAt, Map.of());
+    }
+
+    InventoryTransaction(String orderId, LocalDateTime processedAt, Map<String, Integer> deductedBatches) {
+        this.orderId = orderId;
+        this.processedAt = processedAt;
+        this.deductedBatches = new HashMap<>(deductedBatches);
+    }
+
+    /**
+     * 재고 할당 전에 취소된 주문의 기록입니다. 이후 할당 이벤트가 도착해도 중복 처리로 간주되어 차감하지 않습니다.
+     */
+    static InventoryTransaction cancelledBeforeAllocation(String orderId, LocalDateTime processedAt) {
+        InventoryTransaction transaction = new InventoryTransaction(orderId, processedAt);
+        transaction.restored = true;
+        return transaction;
+    }
+
+    @Override
+    public String getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * 복구 완료로 표시합니다. 이미 복구된 기록이면 {@code false}를 반환합니다.
+     */
+    boolean markRestored() {
+        if (restored) {
+            return false;
+        }
+        restored = true;
+        return true;
+    }
 }
@@ -1,6 +1,18 @@
 package com.demomodulish.inventory;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 interface InventoryTransactionRepository extends JpaRepository<InventoryTransaction, String> {
+
+    /**
+     * 복구 여부를 확인하고 갱신하기 위해 처리 기록을 비관적 락과 함께 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM InventoryTransaction t WHERE t.orderId = :orderId")
+    Optional<InventoryTransaction> findByIdForUpdate(String orderId);
 }
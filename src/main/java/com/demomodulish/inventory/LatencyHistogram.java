@@ -0,0 +1,62 @@
+package com.demomodulish.inventory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 구간(밀리초) 지연 히스토그램입니다. 상품 수와 관계없이 항목당 메모리가 일정합니다.
+ * <p>
+ * 동기화는 호출자({@link ContentionProfiler}의 항목별 락)가 담당합니다.
+ */
+class LatencyHistogram {
+
+    private static final long[] UPPER_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000};
+
+    private final long[] counts = new long[UPPER_BOUNDS_MILLIS.length + 1];
+    private long maxNanos;
+
+    void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < UPPER_BOUNDS_MILLIS.length && millis >= UPPER_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        counts[bucket]++;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    long count() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 오래된 관측치의 비중을 줄이기 위해 모든 구간의 건수를 절반으로 줄입니다.
+     */
+    void halve() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] >>= 1;
+        }
+    }
+
+    Snapshot snapshot() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < UPPER_BOUNDS_MILLIS.length; i++) {
+            buckets.put("<" + UPPER_BOUNDS_MILLIS[i] + "ms", counts[i]);
+        }
+        buckets.put(">=" + UPPER_BOUNDS_MILLIS[UPPER_BOUNDS_MILLIS.length - 1] + "ms", counts[UPPER_BOUNDS_MILLIS.length]);
+        return new Snapshot(count(), TimeUnit.NANOSECONDS.toMillis(maxNanos), buckets);
+    }
+
+    /**
+     * @param count     관측 건수
+     * @param maxMillis 최대 지연
+     * @param buckets   구간별 건수 (구간 상한 오름차순)
+     */
+    record Snapshot(long count, long maxMillis, Map<String, Long> buckets) {
+    }
+}
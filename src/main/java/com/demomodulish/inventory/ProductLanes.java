@@ -0,0 +1,164 @@
+package com.demomodulish.inventory;
+
+import com.demomodulish.infrastructure.ModuleResourceContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 ID 해시로 작업을 고정된 단일 스레드 레인에 분배합니다.
+ * <p>
+ * 같은 상품의 작업은 항상 같은 레인에서 하나씩 실행되므로 같은 재고 행의 락을 두고 경쟁하지 않고,
+ * 다른 상품의 작업은 여러 레인에서 병렬로 실행됩니다. 레인 스레드는 inventory 모듈의 커넥션 풀을 사용하므로
+ * 레인 수({@code inventory.lanes.count})는 inventory 풀 크기 이하로 설정합니다.
+ * <p>
+ * 레인 대기열은 우선순위 순으로 꺼냅니다. 재고 복구/취소({@link Priority#HIGH})는 대기 중인 신규 할당
+ * ({@link Priority#NORMAL})보다 먼저 실행되고, 같은 우선순위 안에서는 제출 순서를 지킵니다.
+ * 대기 작업 수와 대기 시간은 {@code inventory.lanes.queued}, {@code inventory.lanes.wait} 메트릭으로 노출합니다. (태그: priority)
+ * 주문 접수 제한(order 모듈의 BacklogProbe)은 {@code inventory.lanes.queued}를 대기 작업 수에 포함합니다.
+ * <p>
+ * 제출은 기다리지 않고 작업 결과를 {@link CompletableFuture}로 돌려주므로, 제출한 스레드가 다른 레인의 작업을 막지 않습니다.
+ */
+@Slf4j
+@Component
+class ProductLanes implements AutoCloseable {
+
+    enum Priority {
+        /** 보상(재고 복구, 주문 취소) 작업 */
+        HIGH,
+        /** 신규 주문 할당 작업 */
+        NORMAL
+    }
+
+    private final ThreadPoolExecutor[] lanes;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Priority, AtomicInteger> queued = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waits = new EnumMap<>(Priority.class);
+
+    ProductLanes(@Value("${inventory.lanes.count:4}") int laneCount, MeterRegistry registry) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("레인 수는 1 이상이어야 합니다: " + laneCount);
+        }
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            ThreadFactory threads = Thread.ofPlatform().name("inventory-lane-" + i).daemon().factory();
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                    task -> threads.newThread(ModuleResourceContext.wrap("inventory", task)));
+        }
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase();
+            AtomicInteger count = new AtomicInteger();
+            queued.put(priority, count);
+            Gauge.builder("inventory.lanes.queued", count, AtomicInteger::get)
+                    .tag("priority", tag)
+                    .register(registry);
+            waits.put(priority, Timer.builder("inventory.lanes.wait")
+                    .tag("priority", tag)
+                    .register(registry));
+        }
+    }
+
+    int laneOf(String productId) {
+        return Math.floorMod(productId.hashCode(), lanes.length);
+    }
+
+    int queued(Priority priority) {
+        return queued.get(priority).get();
+    }
+
+    CompletableFuture<Void> submit(String productId, Runnable task) {
+        return submit(productId, Priority.NORMAL, task);
+    }
+
+    /**
+     * 상품에 배정된 레인에 작업을 넣고 바로 반환합니다.
+     * <p>
+     * 반환된 future는 작업이 성공하면 정상 완료되고, 작업에서 발생한 예외로 실패합니다.
+     * 레인이 종료되어 작업을 받을 수 없으면 예외를 던지지 않고 실패한 future를 반환합니다.
+     */
+    CompletableFuture<Void> submit(String productId, Priority priority, Runnable task) {
+        LaneTask laneTask = new LaneTask(priority, sequence.getAndIncrement(), task);
+        queued.get(priority).incrementAndGet();
+        try {
+            lanes[laneOf(productId)].execute(laneTask);
+        } catch (RejectedExecutionException e) {
+            laneTask.result.completeExceptionally(e);
+        }
+        return laneTask.result;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("⚠️ [Inventory] 상품 레인이 제시간에 종료되지 않았습니다.");
+            }
+        }
+    }
+
+    /**
+     * 우선순위, 제출 순서 순으로 정렬되는 레인 작업입니다.
+     */
+    private final class LaneTask implements Runnable, Comparable<LaneTask> {
+
+        private final Priority priority;
+        private final long sequence;
+        private final Runnable task;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final long submittedAt = System.nanoTime();
+        private final AtomicBoolean dequeued = new AtomicBoolean();
+
+        LaneTask(Priority priority, long sequence, Runnable task) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+            // 실행 전에 취소되거나 거절된 작업도 대기 수에서 제외
+            result.whenComplete((ignored, failure) -> leaveQueue());
+        }
+
+        @Override
+        public void run() {
+            leaveQueue();
+            if (result.isDone()) {
+                return;
+            }
+            waits.get(priority).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+                result.complete(null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void leaveQueue() {
+            if (dequeued.compareAndSet(false, true)) {
+                queued.get(priority).decrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(LaneTask other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.demomodulish.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사가 적체 상태에 따라 주문 접수량을 조절하는 승인 제어기입니다.
+ * <p>
+ * 주기적으로 미완료 이벤트 발행 건수, 비동기 대기열 길이, 리스너 지연을 측정하여 임계치를 넘으면
+ * 접수 한도를 절반으로 줄이고(Multiplicative Decrease), 정상으로 돌아오면 조금씩 늘려(Additive Increase)
+ * {@code maxRate}에 도달하는 순간 제한을 해제합니다. 인기 상품은 별도의 상품별 한도를 항상 적용합니다.
+ */
+@Slf4j
+@Component
+class AdmissionControl {
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_RATIO = 0.1;
+
+    private final AdmissionProperties properties;
+    private final BacklogProbe probe;
+    private final RateLimiter globalLimiter;
+    private final Map<String, RateLimiter> productLimiters;
+
+    private volatile boolean throttled;
+
+    @Autowired
+    AdmissionControl(AdmissionProperties properties, BacklogProbe probe) {
+        this(properties, probe, System::nanoTime);
+    }
+
+    AdmissionControl(AdmissionProperties properties, BacklogProbe probe, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.probe = probe;
+        this.globalLimiter = new RateLimiter(properties.maxRate(), nanoClock);
+        this.productLimiters = properties.productRateLimits().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> new RateLimiter(e.getValue(), nanoClock)));
+    }
+
+    /**
+     * 주문 접수 가능 여부를 확인하고, 한도를 넘으면 {@link OrderRejectedException}을 던집니다.
+     */
+    void admit(Collection<String> productIds) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        // 상품별 한도를 먼저 확인하고, 거절되면 이미 받은 토큰을 돌려주어 거절된 요청이 한도를 소모하지 않도록 함
+        List<RateLimiter> acquired = new ArrayList<>();
+        for (String productId : productIds) {
+            RateLimiter limiter = productLimiters.get(productId);
+            if (limiter == null) {
+                continue;
+            }
+            if (!limiter.tryAcquire()) {
+                acquired.forEach(RateLimiter::release);
+                throw new OrderRejectedException("주문이 집중된 상품입니다: " + productId, retryAfter(limiter));
+            }
+            acquired.add(limiter);
+        }
+
+        if (throttled && !globalLimiter.tryAcquire()) {
+            acquired.forEach(RateLimiter::release);
+            throw new OrderRejectedException("주문 처리 지연으로 접수를 제한하고 있습니다.", retryAfter(globalLimiter));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.admission.sample-interval-millis:1000}")
+    void sample() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            adjust(probe.snapshot(properties.publicationWindow()));
+        } catch (DataAccessException e) {
+            log.warn("⚠️ [Order] 적체 상태 측정 실패: {}", e.getMessage());
+        }
+    }
+
+    void adjust(BacklogSnapshot snapshot) {
+        if (isOverloaded(snapshot)) {
+            double base = throttled ? globalLimiter.rate() : properties.maxRate();
+            double rate = Math.max(properties.minRate(), base * DECREASE_FACTOR);
+            globalLimiter.setRate(rate);
+            throttled = true;
+            log.warn("🚦 [Order] 사가 적체 감지 -> 접수 한도 {}/s (미완료 이벤트: {}, 대기 작업: {}, 지연: {}s)",
+                    (long) rate, snapshot.incompletePublications(), snapshot.queuedTasks(),
+                    snapshot.oldestPublicationAge().toSeconds());
+        } else if (throttled) {
+            double rate = globalLimiter.rate() + properties.maxRate() * INCREASE_RATIO;
+            if (rate >= properties.maxRate()) {
+                globalLimiter.setRate(properties.maxRate());
+                throttled = false;
+                log.info("🟢 [Order] 사가 적체 해소 -> 접수 제한 해제");
+            } else {
+                globalLimiter.setRate(rate);
+            }
+        }
+    }
+
+    boolean isThrottled() {
+        return throttled;
+    }
+
+    private boolean isOverloaded(BacklogSnapshot snapshot) {
+        return snapshot.incompletePublications() > properties.maxIncompletePublications()
+                || snapshot.queuedTasks() > properties.maxQueuedTasks()
+                || snapshot.oldestPublicationAge().compareTo(properties.maxPublicationLag()) > 0;
+    }
+
+    private Duration retryAfter(RateLimiter limiter) {
+        return Duration.ofSeconds(Math.max(1, (long) Math.ceil(1 / limiter.rate())));
+    }
+}
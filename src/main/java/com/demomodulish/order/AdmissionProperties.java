@@ -0,0 +1,35 @@
+package com.demomodulish.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 주문 접수 승인 제어(Admission Control) 설정입니다.
+ *
+ * @param enabled                    승인 제어 사용 여부
+ * @param maxIncompletePublications  허용하는 미완료 이벤트 발행(Outbox) 건수
+ * @param maxQueuedTasks             허용하는 비동기 실행기와 inventory 상품 레인의 대기 작업 수
+ * @param maxPublicationLag          허용하는 가장 오래된 미완료 이벤트의 경과 시간(리스너 지연)
+ * @param publicationWindow          적체 측정 대상 기간. 이보다 오래 미완료로 남은 발행은 영구 실패로 보고 제외 (재처리는 StaleOrderReaper 담당)
+ * @param maxRate                    정상 상태의 초당 접수 한도 (이 값에 도달하면 제한 해제)
+ * @param minRate                    과부하 시 보장하는 최소 초당 접수량
+ * @param productRateLimits          인기 상품(Hot SKU)별 초당 접수 한도
+ */
+@ConfigurationProperties("order.admission")
+record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5000") long maxIncompletePublications,
+        @DefaultValue("1000") int maxQueuedTasks,
+        @DefaultValue("30s") Duration maxPublicationLag,
+        @DefaultValue("10m") Duration publicationWindow,
+        @DefaultValue("500") double maxRate,
+        @DefaultValue("10") double minRate,
+        Map<String, Double> productRateLimits
+) {
+    AdmissionProperties {
+        productRateLimits = productRateLimits == null ? Map.of() : Map.copyOf(productRateLimits);
+    }
+}
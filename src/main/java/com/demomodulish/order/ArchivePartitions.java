@@ -0,0 +1,74 @@
+package com.demomodulish.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PostgreSQL에서 {@code orders_archive}가 파티션 테이블이면 updated_at 기준 월별 파티션을 미리 생성합니다.
+ * <p>
+ * 파티션 테이블이 아니면(H2, 또는 Hibernate가 생성한 일반 테이블) 아무 작업도 하지 않습니다.
+ * 범위에 맞는 파티션이 없는 행은 기본(DEFAULT) 파티션에 저장됩니다.
+ */
+@Slf4j
+@Component
+class ArchivePartitions {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<YearMonth> created = ConcurrentHashMap.newKeySet();
+    private volatile Boolean partitioned;
+
+    ArchivePartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@code from}부터 {@code to}까지(포함) 월별 파티션이 없으면 생성합니다.
+     */
+    void ensureMonthly(YearMonth from, YearMonth to) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (created.contains(month)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS orders_archive_p%s PARTITION OF orders_archive FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(month.format(SUFFIX), month.atDay(1), month.plusMonths(1).atDay(1)));
+                created.add(month);
+            } catch (DataAccessException e) {
+                // 기본 파티션에 이미 해당 범위의 행이 있으면 생성할 수 없으며, 그 달의 행은 계속 기본 파티션에 저장된다
+                log.warn("⚠️ [Order] 보관 파티션 생성 실패 ({}): {}", month, e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = detectPartitioned();
+        }
+        return partitioned;
+    }
+
+    private boolean detectPartitioned() {
+        try {
+            Long count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_partitioned_table p
+                    JOIN pg_class c ON c.oid = p.partrelid
+                    WHERE c.relname = 'orders_archive'
+                    """, Long.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.demomodulish.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 종료 주문 보관(Archive) 설정입니다. 실행 주기는 {@code order.archive.interval-millis}로 지정합니다.
+ *
+ * @param enabled              보관 작업 사용 여부
+ * @param minAge               종료(마지막 상태 전이) 후 이 기간이 지난 주문을 보관 테이블로 이동
+ * @param batchSize            한 트랜잭션에서 이동하는 주문 수
+ * @param maxBatchesPerRun     한 번 실행할 때 처리하는 최대 배치 수
+ * @param partitionAheadMonths PostgreSQL 파티션 테이블일 때 미리 만들어 두는 다음 달 파티션 수
+ */
+@ConfigurationProperties("order.archive")
+record ArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30d") Duration minAge,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("20") int maxBatchesPerRun,
+        @DefaultValue("1") int partitionAheadMonths
+) {
+}
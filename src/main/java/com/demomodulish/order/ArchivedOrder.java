@@ -0,0 +1,74 @@
+package com.demomodulish.order;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 종료(COMPLETED/CANCELLED) 주문입니다. 운영 테이블({@code orders})에서 옮겨와 조회 전용으로 보관합니다.
+ * <p>
+ * PostgreSQL에서는 {@code orders_archive}를 updated_at 기준 월별 파티션 테이블로 생성합니다. (db/schema-postgresql.sql)
+ */
+@Getter
+@Entity
+@Table(name = "orders_archive")
+class ArchivedOrder implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "orders_archive_lines", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_no")
+    @BatchSize(size = 100)
+    private List<OrderLine> lines = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    /**
+     * 운영 테이블에서 옮겨온 ID를 그대로 사용하므로 SELECT(merge) 없이 바로 INSERT 하기 위한 플래그
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    protected ArchivedOrder() {}
+
+    static ArchivedOrder of(Order order, LocalDateTime archivedAt) {
+        ArchivedOrder archived = new ArchivedOrder();
+        archived.id = order.getId();
+        archived.lines = new ArrayList<>(order.getLines());
+        archived.status = order.getStatus();
+        archived.createdAt = order.getCreatedAt();
+        archived.updatedAt = order.getUpdatedAt();
+        archived.archivedAt = archivedAt;
+        return archived;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,6 @@
+package com.demomodulish.order;
+
+import org.springframework.data.repository.CrudRepository;
+
+interface ArchivedOrderRepository extends CrudRepository<ArchivedOrder, String> {
+}
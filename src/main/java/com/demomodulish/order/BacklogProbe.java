@@ -0,0 +1,61 @@
+package com.demomodulish.order;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 이벤트 발행 레지스트리(EVENT_PUBLICATION)와 비동기 실행기 대기열을 조회하여 적체 상태를 측정합니다.
+ * <p>
+ * 대기 작업 수에는 실행기 대기열과 함께 inventory 상품 레인의 대기 작업 수({@code inventory.lanes.queued} 게이지)를 더합니다.
+ * 재고 리스너는 작업을 레인에 넘기고 바로 반환하므로, 레인이 밀려도 inventory 실행기 대기열은 비어 있기 때문입니다.
+ * 모듈 내부 타입에 의존하지 않도록 메트릭 레지스트리에서 게이지 값을 읽습니다.
+ * <p>
+ * 미완료 발행은 최근 구간(window)에 발행된 것만 셉니다. 리스너가 영구히 실패한 발행이 남아 있어도
+ * 구간을 벗어나면 지연 측정에서 빠지므로, 적체가 해소되면 접수 제한도 자동으로 풀립니다.
+ */
+@Component
+class BacklogProbe {
+
+    private static final String INCOMPLETE_PUBLICATIONS_QUERY =
+            "SELECT COUNT(*) AS CNT, MIN(PUBLICATION_DATE) AS OLDEST FROM EVENT_PUBLICATION"
+                    + " WHERE COMPLETION_DATE IS NULL AND PUBLICATION_DATE >= ?";
+
+    private static final String LANE_QUEUE_METRIC = "inventory.lanes.queued";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ThreadPoolTaskExecutor> executors;
+    private final MeterRegistry registry;
+
+    BacklogProbe(JdbcTemplate jdbcTemplate, ObjectProvider<ThreadPoolTaskExecutor> executors, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executors = executors;
+        this.registry = registry;
+    }
+
+    BacklogSnapshot snapshot(Duration window) {
+        Instant now = Instant.now();
+        return jdbcTemplate.queryForObject(INCOMPLETE_PUBLICATIONS_QUERY, (rs, rowNum) -> {
+            Timestamp oldest = rs.getTimestamp("OLDEST");
+            Duration age = oldest == null ? Duration.ZERO : Duration.between(oldest.toInstant(), now);
+            return new BacklogSnapshot(rs.getLong("CNT"), queuedTasks(), age);
+        }, Timestamp.from(now.minus(window)));
+    }
+
+    private int queuedTasks() {
+        int executorQueued = executors.stream()
+                .mapToInt(ThreadPoolTaskExecutor::getQueueSize)
+                .sum();
+        double laneQueued = registry.find(LANE_QUEUE_METRIC).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+        return executorQueued + (int) laneQueued;
+    }
+}
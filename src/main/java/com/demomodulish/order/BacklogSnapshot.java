@@ -0,0 +1,17 @@
+package com.demomodulish.order;
+
+import java.time.Duration;
+
+/**
+ * 사가 처리 적체 상태의 스냅샷입니다.
+ *
+ * @param incompletePublications 아직 완료되지 않은 이벤트 발행 건수
+ * @param queuedTasks            비동기 실행기 대기열과 inventory 상품 레인에 쌓인 작업 수
+ * @param oldestPublicationAge   가장 오래된 미완료 이벤트의 경과 시간
+ */
+record BacklogSnapshot(
+        long incompletePublications,
+        int queuedTasks,
+        Duration oldestPublicationAge
+) {
+}
@@ -0,0 +1,23 @@
+package com.demomodulish.order;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 저장과 이벤트 발행(Outbox)을 같은 트랜잭션에서 동기로 처리하는 기본 접수 방식입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.intake.mode", havingValue = "direct", matchIfMissing = true)
+class DirectOrderIntake implements OrderIntake {
+
+    private final OrderManagement orderManagement;
+
+    DirectOrderIntake(OrderManagement orderManagement) {
+        this.orderManagement = orderManagement;
+    }
+
+    @Override
+    public void accept(Order order) {
+        orderManagement.place(order);
+    }
+}
@@ -0,0 +1,420 @@
+package com.demomodulish.order;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 주문 접수용 로컬 세그먼트 저널입니다.
+ * <p>
+ * 레코드는 {@code [길이(int)][CRC32C(int)][페이로드]} 형식으로 세그먼트 파일 끝에 추가됩니다.
+ * 전용 쓰기 스레드가 대기 중인 레코드를 한꺼번에 기록한 뒤 한 번만 fsync(group commit)하고,
+ * 그 그룹의 모든 호출자를 동시에 깨웁니다. 세그먼트가 설정 크기를 넘으면 다음 그룹부터 새 세그먼트에 기록하므로,
+ * 한 그룹은 항상 하나의 세그먼트 안에 있고 기록에 실패하면 그 세그먼트만 fsync된 위치로 되돌리면 됩니다.
+ * <p>
+ * 소비자는 {@link #read(Position, int)}로 fsync가 끝난 위치까지만 읽고, 처리 완료 위치를
+ * {@link #checkpoint(Position)}로 기록합니다. 재시작 시에는 마지막 세그먼트의 찢어진 꼬리 레코드를 잘라내고
+ * 체크포인트 이후부터 다시 읽습니다.
+ * <p>
+ * 반복해서 반영에 실패하는 레코드는 {@link #quarantine(JournalEntry)}로 {@code quarantine/} 디렉터리에 옮겨 두고
+ * 체크포인트를 그 뒤로 넘길 수 있습니다.
+ */
+@Slf4j
+class IntakeJournal implements AutoCloseable {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_GROUP_SIZE = 1024;
+    private static final String SEGMENT_PREFIX = "intake-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String QUARANTINE_DIRECTORY = "quarantine";
+    private static final Duration DEFAULT_APPEND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final SegmentOpener opener;
+    private final Duration appendTimeout;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private FileChannel activeChannel;
+    private long activeSegment;
+    private long activeSize;
+    private boolean dirty;
+    private volatile Position committed;
+
+    IntakeJournal(Path directory, long segmentSize) throws IOException {
+        this(directory, segmentSize, DEFAULT_APPEND_TIMEOUT);
+    }
+
+    IntakeJournal(Path directory, long segmentSize, Duration appendTimeout) throws IOException {
+        this(directory, segmentSize, appendTimeout, FileChannel::open);
+    }
+
+    IntakeJournal(Path directory, long segmentSize, Duration appendTimeout, SegmentOpener opener) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.appendTimeout = appendTimeout;
+        this.opener = opener;
+        Files.createDirectories(directory);
+
+        List<Long> segments = segments();
+        this.activeSegment = segments.isEmpty() ? 0 : segments.getLast();
+        this.activeChannel = opener.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.activeSize = recoverValidLength(activeChannel);
+        this.activeChannel.truncate(activeSize);
+        this.activeChannel.position(activeSize);
+        this.committed = new Position(activeSegment, activeSize);
+
+        this.writer = Thread.ofPlatform().name("intake-journal-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * 레코드를 저널에 추가하고 디스크에 fsync될 때까지 기다립니다.
+     * <p>
+     * 쓰기 스레드가 멈췄거나 {@code appendTimeout} 안에 기록이 시작되지 않으면 레코드를 대기열에서 빼고 예외를 던지므로,
+     * 시간 초과된 레코드는 나중에 기록되지 않고 호출자는 안전하게 재시도할 수 있습니다.
+     * 이미 쓰기 스레드가 가져간 레코드는 시간이 지나도 기록 결과(fsync 완료 또는 실패)를 기다립니다.
+     */
+    void append(byte[] payload) {
+        if (!running || !writer.isAlive()) {
+            throw new IllegalStateException("접수 저널이 종료되었습니다.");
+        }
+        PendingAppend pending = new PendingAppend(payload, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            // close()와 경합하여 쓰기 스레드가 이미 대기열을 비운 뒤 추가된 경우
+            throw new IllegalStateException("접수 저널이 종료되었습니다.");
+        }
+        try {
+            pending.done().get(appendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("접수 저널 기록이 %dms 안에 시작되지 않았습니다.".formatted(appendTimeout.toMillis()), e);
+            }
+            awaitWritten(pending);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("접수 저널 기록 대기 중 인터럽트되었습니다.", e);
+            }
+            awaitWritten(pending);
+        }
+    }
+
+    /**
+     * {@code from} 이후 fsync가 완료된 레코드를 최대 {@code maxRecords}건 읽습니다.
+     */
+    List<JournalEntry> read(Position from, int maxRecords) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        Position limit = committed;
+        Position position = from;
+
+        while (entries.size() < maxRecords && position.compareTo(limit) < 0) {
+            Path segment = segmentPath(position.segment());
+            long segmentEnd = position.segment() == limit.segment() ? limit.offset() : Files.size(segment);
+            if (position.offset() >= segmentEnd) {
+                position = new Position(position.segment() + 1, 0);
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long offset = position.offset();
+                while (entries.size() < maxRecords && offset < segmentEnd) {
+                    byte[] payload = readRecord(channel, offset);
+                    if (payload == null) {
+                        throw new IOException("손상된 저널 레코드: %s@%d".formatted(segment, offset));
+                    }
+                    offset += HEADER_SIZE + payload.length;
+                    entries.add(new JournalEntry(payload, new Position(position.segment(), offset)));
+                }
+                position = new Position(position.segment(), offset);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 마지막으로 처리 완료된 위치를 반환합니다. 체크포인트가 없으면 첫 세그먼트의 시작 위치입니다.
+     */
+    Position readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (Files.exists(checkpoint)) {
+            String[] parts = Files.readString(checkpoint, StandardCharsets.UTF_8).trim().split(" ");
+            return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        }
+        List<Long> segments = segments();
+        return new Position(segments.isEmpty() ? 0 : segments.getFirst(), 0);
+    }
+
+    /**
+     * 처리 완료 위치를 원자적으로 기록하고, 그 이전의 세그먼트를 삭제합니다.
+     */
+    void checkpoint(Position position) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap("%d %d".formatted(position.segment(), position.offset())
+                    .getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (long segment : segments()) {
+            if (segment < position.segment()) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    /**
+     * 반영할 수 없는 레코드를 격리 디렉터리에 보관합니다. 파일 이름은 레코드 다음 위치(세그먼트, 오프셋)입니다.
+     */
+    Path quarantine(JournalEntry entry) throws IOException {
+        Path quarantine = Files.createDirectories(directory.resolve(QUARANTINE_DIRECTORY));
+        Path target = quarantine.resolve("%020d-%d.rec".formatted(entry.next().segment(), entry.next().offset()));
+        Files.write(target, entry.payload());
+        return target;
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        failRemaining(new IllegalStateException("접수 저널이 종료되었습니다."));
+        activeChannel.close();
+    }
+
+    /**
+     * 쓰기 스레드가 이미 가져간 레코드의 기록 결과를 기다립니다.
+     */
+    private void awaitWritten(PendingAppend pending) {
+        try {
+            pending.done().join();
+        } catch (CompletionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    private RuntimeException failure(Throwable cause) {
+        if (cause instanceof IOException io) {
+            return new UncheckedIOException(io);
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("접수 저널 기록 실패", cause);
+    }
+
+    private void failRemaining(Exception cause) {
+        List<PendingAppend> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.done().completeExceptionally(cause));
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            List<PendingAppend> group = new ArrayList<>();
+            try {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, MAX_GROUP_SIZE - 1);
+                writeGroup(group);
+                group.forEach(pending -> pending.done().complete(null));
+            } catch (IOException e) {
+                log.error("❌ [Order] 접수 저널 기록 실패 ({}건)", group.size(), e);
+                dirty = true;
+                rollbackToCommitted();
+                group.forEach(pending -> pending.done().completeExceptionally(e));
+            } catch (InterruptedException e) {
+                group.forEach(pending -> pending.done().completeExceptionally(e));
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeGroup(List<PendingAppend> group) throws IOException {
+        if (dirty) {
+            // 이전 실패 후 되돌리기에 실패했다면 fsync되지 않은 바이트 뒤에 이어 쓰지 않도록 다시 시도
+            rollbackToCommitted();
+            if (dirty) {
+                throw new IOException("접수 저널을 fsync된 위치로 되돌리지 못했습니다.");
+            }
+        }
+        if (activeSize >= segmentSize) {
+            rollSegment();
+        }
+        for (PendingAppend pending : group) {
+            ByteBuffer record = encode(pending.payload());
+            while (record.hasRemaining()) {
+                activeSize += activeChannel.write(record);
+            }
+        }
+        activeChannel.force(false);
+        committed = new Position(activeSegment, activeSize);
+    }
+
+    /**
+     * 기록 도중 실패한 경우, fsync가 끝난 위치 이후의 불완전한 바이트를 잘라냅니다.
+     * <p>
+     * 세그먼트는 그룹 경계에서만 넘어가므로, 실패한 그룹이 새 세그먼트에서 시작했다면 그 세그먼트 전체가
+     * fsync되지 않은 바이트입니다.
+     */
+    private void rollbackToCommitted() {
+        Position position = committed;
+        long offset = position.segment() == activeSegment ? position.offset() : 0;
+        try {
+            activeChannel.truncate(offset);
+            activeChannel.position(offset);
+            activeChannel.force(false);
+            activeSize = offset;
+            dirty = false;
+        } catch (IOException e) {
+            log.error("❌ [Order] 접수 저널 복구 실패", e);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.force(false);
+        FileChannel next = opener.open(segmentPath(activeSegment + 1),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeChannel.close();
+        activeChannel = next;
+        activeSegment++;
+        activeSize = 0;
+    }
+
+    private long recoverValidLength(FileChannel channel) throws IOException {
+        long offset = 0;
+        long size = channel.size();
+        while (offset < size) {
+            byte[] payload = readRecord(channel, offset);
+            if (payload == null) {
+                log.warn("⚠️ [Order] 접수 저널 꼬리 레코드 손상 -> {} 바이트 이후 폐기", offset);
+                break;
+            }
+            offset += HEADER_SIZE + payload.length;
+        }
+        return offset;
+    }
+
+    /**
+     * 주어진 위치의 레코드를 읽습니다. 잘리거나 체크섬이 맞지 않으면 {@code null}을 반환합니다.
+     */
+    private byte[] readRecord(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (!readFully(channel, header, offset)) {
+            return null;
+        }
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length < 0 || offset + HEADER_SIZE + length > channel.size()) {
+            return null;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        if (!readFully(channel, payload, offset + HEADER_SIZE) || checksum(payload.array()) != checksum) {
+            return null;
+        }
+        return payload.array();
+    }
+
+    private boolean readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return false;
+            }
+            position += read;
+        }
+        return true;
+    }
+
+    private ByteBuffer encode(byte[] payload) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        record.putInt(payload.length);
+        record.putInt(checksum(payload));
+        record.put(payload);
+        return record.flip();
+    }
+
+    private int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve("%s%020d%s".formatted(SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * 저널 내 위치 (세그먼트 번호, 세그먼트 내 오프셋)
+     */
+    record Position(long segment, long offset) implements Comparable<Position> {
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Long.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * 읽은 레코드와 그 다음 레코드의 시작 위치
+     */
+    record JournalEntry(byte[] payload, Position next) {
+    }
+
+    private record PendingAppend(byte[] payload, CompletableFuture<Void> done) {
+    }
+
+    /**
+     * 쓰기용 세그먼트 채널을 엽니다. (테스트에서 기록 실패를 주입하기 위한 확장 지점)
+     */
+    @FunctionalInterface
+    interface SegmentOpener {
+        FileChannel open(Path segment, OpenOption... options) throws IOException;
+    }
+}
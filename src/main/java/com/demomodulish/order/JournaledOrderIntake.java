@@ -0,0 +1,204 @@
+package com.demomodulish.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문을 로컬 접수 저널에 기록하는 즉시 응답하는 비동기 접수 방식입니다.
+ * <p>
+ * 접수 시에는 저널 fsync(group commit)만 기다리므로 DB 커밋 지연과 무관하게 응답합니다.
+ * 백그라운드 드레이너가 저널을 읽어 {@code orders}/EVENT_PUBLICATION에 대량 배치로 반영하고,
+ * 반영이 끝난 위치를 체크포인트로 기록합니다. 체크포인트 직전에 중단되어 재생되더라도 이미 저장된 주문 ID는
+ * 건너뛰므로 중복 주문이 생기지 않습니다.
+ * <p>
+ * 배치 반영이 DB 장애가 아닌 이유로 {@code max-attempts}번 연속 실패하면, 그 배치를 한 건씩 다시 반영하여
+ * 실패하는 레코드만 격리({@link IntakeJournal#quarantine})하고 체크포인트를 넘깁니다. 드레이너가 중단되면
+ * 반영되지 않을 주문을 받지 않도록 {@link #accept(Order)}가 실패합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.intake.mode", havingValue = "journal")
+class JournaledOrderIntake implements OrderIntake, AutoCloseable {
+
+    /** 2: 처리 기한 추가. 1 버전 레코드도 읽을 수 있습니다. */
+    private static final int RECORD_VERSION = 2;
+
+    private final IntakeJournal journal;
+    private final OrderManagement orderManagement;
+    private final int drainBatchSize;
+    private final Duration drainInterval;
+    private final int maxAttempts;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    JournaledOrderIntake(OrderManagement orderManagement,
+                         @Value("${order.intake.journal.directory:./data/intake-journal}") Path directory,
+                         @Value("${order.intake.journal.segment-size:64MB}") DataSize segmentSize,
+                         @Value("${order.intake.journal.drain-batch-size:500}") int drainBatchSize,
+                         @Value("${order.intake.journal.drain-interval:50ms}") Duration drainInterval,
+                         @Value("${order.intake.journal.max-attempts:5}") int maxAttempts,
+                         @Value("${order.intake.journal.append-timeout:5s}") Duration appendTimeout) throws IOException {
+        this.orderManagement = orderManagement;
+        this.journal = new IntakeJournal(directory, segmentSize.toBytes(), appendTimeout);
+        this.drainBatchSize = drainBatchSize;
+        this.drainInterval = drainInterval;
+        this.maxAttempts = maxAttempts;
+        this.drainer = Thread.ofPlatform().name("intake-journal-drainer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public void accept(Order order) {
+        if (!drainer.isAlive()) {
+            throw new IllegalStateException("접수 저널 드레이너가 중단되어 주문을 접수할 수 없습니다.");
+        }
+        journal.append(encode(order));
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(5));
+        journal.close();
+    }
+
+    private void drainLoop() {
+        IntakeJournal.Position position;
+        try {
+            position = journal.readCheckpoint();
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ [Order] 접수 저널 체크포인트 읽기 실패 -> 드레이너 중단, 주문 접수 거절", e);
+            return;
+        }
+
+        int failures = 0;
+        IntakeJournal.Position isolateUntil = null;
+        while (running) {
+            boolean isolating = isolateUntil != null && position.compareTo(isolateUntil) < 0;
+            List<IntakeJournal.JournalEntry> entries = List.of();
+            try {
+                entries = journal.read(position, isolating ? 1 : drainBatchSize);
+                if (entries.isEmpty()) {
+                    Thread.sleep(drainInterval);
+                    continue;
+                }
+
+                int placed = orderManagement.placeAll(entries.stream()
+                        .map(entry -> decode(entry.payload()))
+                        .toList());
+                position = advance(entries.getLast());
+                failures = 0;
+                log.info("📥 [Order] 접수 저널 반영: {}건 (중복 제외 {}건)", entries.size(), entries.size() - placed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                try {
+                    if (!entries.isEmpty() && !isTransient(e)) {
+                        if (isolating) {
+                            // 한 건씩 반영 중 실패한 레코드는 재시도해도 성공하지 않으므로 격리하고 넘어감
+                            Path quarantined = journal.quarantine(entries.getFirst());
+                            position = advance(entries.getFirst());
+                            log.error("☣️ [Order] 반영할 수 없는 접수 저널 레코드 격리: {}", quarantined, e);
+                            continue;
+                        }
+                        if (++failures >= maxAttempts) {
+                            isolateUntil = entries.getLast().next();
+                            failures = 0;
+                            log.warn("⚠️ [Order] 접수 저널 배치 반영 {}회 실패 -> 한 건씩 반영하여 실패 레코드 격리", maxAttempts);
+                            continue;
+                        }
+                    }
+                    log.warn("⚠️ [Order] 접수 저널 반영 실패 -> 재시도: {}", e.getMessage());
+                    Thread.sleep(drainInterval.multipliedBy(10));
+                } catch (IOException quarantineFailure) {
+                    log.warn("⚠️ [Order] 접수 저널 레코드 격리 실패 -> 재시도: {}", quarantineFailure.getMessage());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private IntakeJournal.Position advance(IntakeJournal.JournalEntry last) throws IOException {
+        journal.checkpoint(last.next());
+        return last.next();
+    }
+
+    /**
+     * DB 연결 실패, 타임아웃처럼 다시 시도하면 성공할 수 있는 실패인지 판단합니다.
+     * 이런 실패는 레코드 자체의 문제가 아니므로 격리 대상 횟수에 포함하지 않습니다.
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] encode(Order order) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_VERSION);
+            out.writeUTF(order.getId());
+            out.writeInt(order.getLines().size());
+            for (OrderLine line : order.getLines()) {
+                out.writeUTF(line.getProductId());
+                out.writeInt(line.getQuantity());
+                out.writeLong(line.getPrice());
+            }
+            out.writeBoolean(order.getDeadline() != null);
+            if (order.getDeadline() != null) {
+                out.writeUTF(order.getDeadline().toString());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Order decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int version = in.readByte();
+            if (version < 1 || version > RECORD_VERSION) {
+                throw new IllegalStateException("지원하지 않는 접수 저널 레코드 버전: " + version);
+            }
+            String id = in.readUTF();
+            int lineCount = in.readInt();
+            List<OrderLine> lines = new ArrayList<>(lineCount);
+            for (int i = 0; i < lineCount; i++) {
+                lines.add(new OrderLine(in.readUTF(), in.readInt(), in.readLong()));
+            }
+            LocalDateTime deadline = version >= 2 && in.readBoolean() ? LocalDateTime.parse(in.readUTF()) : null;
+            return new Order(id, lines, deadline);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,50 +1,150 @@
 package com.demomodulish.order;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "orders")
-public class Order {
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_orders_status_id", columnList = "status, id")
+})
+public class Order implements Persistable<String> {
 
     @Id
     private String id = UUID.randomUUID().toString();
 
-    @NotBlank
-    private String productId;
-    
-    @Min(1)
-    private int quantity;
-    
-    @Min(0)
-    private long price;
+    @Valid
+    @NotEmpty
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "order_lines", joinColumns = @JoinColumn(name = "order_id"),
+            indexes = @Index(name = "idx_order_lines_product_order", columnList = "product_id, order_id"))
+    @OrderColumn(name = "line_no")
+    @BatchSize(size = 100)
+    private List<OrderLine> lines = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 마지막 상태 전이(또는 재처리 요청) 시각. 진행이 멈춘 주문을 (status, updated_at) 인덱스로 찾는 데 사용합니다.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 진행이 멈춰 이벤트를 재발행한 횟수
+     */
+    @ColumnDefault("0")
+    private int resubmissions;
+
+    /**
+     * 처리 기한. 기한이 지나면 재고 할당/결제 단계에서 작업하지 않고 취소합니다. (없으면 null)
+     */
+    private LocalDateTime deadline;
+
+    /**
+     * ID를 직접 할당하므로 저장 시 불필요한 SELECT(merge) 없이 바로 INSERT 하기 위한 플래그
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
     protected Order() {}
 
-    public Order(String productId, int quantity, long price) {
-        this.productId = productId;
-        this.quantity = quantity;
-        this.price = price;
+    public Order(List<OrderLine> lines) {
+        this(lines, null);
+    }
+
+    /**
+     * 처리 기한이 있는 주문을 생성합니다.
+     */
+    public Order(List<OrderLine> lines, LocalDateTime deadline) {
+        this.lines = new ArrayList<>(lines);
         this.status = OrderStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.deadline = deadline;
+    }
+
+    /**
+     * 이미 발급된 ID로 주문을 복원합니다. (접수 저널 재생용)
+     */
+    Order(String id, List<OrderLine> lines) {
+        this(id, lines, null);
+    }
+
+    Order(String id, List<OrderLine> lines, LocalDateTime deadline) {
+        this(lines, deadline);
+        this.id = id;
+    }
+
+    /**
+     * 단일 품목 주문을 생성합니다.
+     */
+    public Order(String productId, int quantity, long price) {
+        this(List.of(new OrderLine(productId, quantity, price)));
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
     }
 
     public long getTotalAmount() {
-        return this.price * this.quantity;
+        return this.lines.stream()
+                .mapToLong(OrderLine::getAmount)
+                .sum();
+    }
+
+    /**
+     * 주문을 취소합니다. 대기(PENDING) 상태에서만 전이하며, 이미 확정/취소된 주문이면 {@code false}를 반환합니다.
+     */
+    public boolean cancel() {
+        return transitionTo(OrderStatus.CANCELLED);
+    }
+
+    /**
+     * 주문을 확정합니다. 대기(PENDING) 상태에서만 전이하며, 이미 확정/취소된 주문이면 {@code false}를 반환합니다.
+     */
+    public boolean complete() {
+        return transitionTo(OrderStatus.COMPLETED);
     }
 
-    public void cancel() {
-        this.status = OrderStatus.CANCELLED;
+    /**
+     * 멈춘 이벤트를 재발행했음을 기록합니다. 다음 재처리 판단은 지금부터 다시 대기 시간을 셉니다.
+     */
+    void markResubmitted() {
+        this.resubmissions++;
+        this.updatedAt = LocalDateTime.now();
     }
 
-    public void complete() {
-        this.status = OrderStatus.COMPLETED;
+    private boolean transitionTo(OrderStatus target) {
+        if (this.status != OrderStatus.PENDING) {
+            return false;
+        }
+        this.status = target;
+        this.updatedAt = LocalDateTime.now();
+        return true;
     }
 }
@@ -0,0 +1,99 @@
+package com.demomodulish.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기간({@code order.archive.min-age})이 지난 종료 주문을 운영 테이블에서 보관 테이블로 옮깁니다.
+ * <p>
+ * 배치마다 (status, updated_at) 인덱스로 가장 오래된 종료 주문 ID를 최대 {@code batchSize}건 조회한 뒤,
+ * 한 트랜잭션에서 보관 테이블에 저장하고 운영 테이블에서 삭제합니다. 한 번 실행에 최대 {@code maxBatchesPerRun}개 배치만 처리합니다.
+ */
+@Slf4j
+@Component
+class OrderArchiver {
+
+    private static final List<OrderStatus> FINISHED = List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orders;
+    private final ArchivedOrderRepository archivedOrders;
+    private final ArchivePartitions partitions;
+    private final TransactionOperations transactions;
+    private final ArchiveProperties properties;
+    private final Counter archivedCounter;
+
+    OrderArchiver(OrderRepository orders,
+                  ArchivedOrderRepository archivedOrders,
+                  ArchivePartitions partitions,
+                  TransactionOperations transactions,
+                  ArchiveProperties properties,
+                  MeterRegistry registry) {
+        this.orders = orders;
+        this.archivedOrders = archivedOrders;
+        this.partitions = partitions;
+        this.transactions = transactions;
+        this.properties = properties;
+        this.archivedCounter = Counter.builder("orders.archived").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval-millis:600000}",
+            initialDelayString = "${order.archive.interval-millis:600000}")
+    void scheduledArchive() {
+        if (properties.enabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 보관 테이블로 옮긴 주문 수
+     */
+    int archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(properties.minAge());
+        partitions.ensureMonthly(YearMonth.from(cutoff), YearMonth.from(now).plusMonths(properties.partitionAheadMonths()));
+
+        int archived = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int moved = transactions.execute(status -> moveBatch(cutoff, now));
+            archived += moved;
+            if (moved < properties.batchSize()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            archivedCounter.increment(archived);
+            log.info("🗄️ [Order] 종료 주문 {}건을 보관 테이블로 이동", archived);
+        }
+        return archived;
+    }
+
+    private int moveBatch(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        List<String> ids = new ArrayList<>();
+        for (OrderStatus status : FINISHED) {
+            ids.addAll(orders.findIdsToArchive(status, cutoff, Limit.of(properties.batchSize() - ids.size())));
+            if (ids.size() >= properties.batchSize()) {
+                break;
+            }
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> batch = new ArrayList<>();
+        orders.findAllById(ids).forEach(batch::add);
+        archivedOrders.saveAll(batch.stream().map(order -> ArchivedOrder.of(order, archivedAt)).toList());
+        orders.deleteAll(batch);
+        return batch.size();
+    }
+}
@@ -1,33 +1,165 @@
 package com.demomodulish.order;
 
+import com.demomodulish.catalog.PriceCatalog;
+import com.demomodulish.catalog.UnknownProductException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/orders")
 class OrderController {
 
-    private final OrderManagement orderManagement;
+    private final OrderIntake orderIntake;
+    private final AdmissionControl admissionControl;
+    private final OrderLookup orderLookup;
+    private final PriceCatalog priceCatalog;
+    private final OrderListing orderListing;
+    private final ObjectMapper objectMapper;
 
-    OrderController(OrderManagement orderManagement) {
-        this.orderManagement = orderManagement;
+    OrderController(OrderIntake orderIntake, AdmissionControl admissionControl, OrderLookup orderLookup,
+                    PriceCatalog priceCatalog, OrderListing orderListing, ObjectMapper objectMapper) {
+        this.orderIntake = orderIntake;
+        this.admissionControl = admissionControl;
+        this.orderLookup = orderLookup;
+        this.priceCatalog = priceCatalog;
+        this.orderListing = orderListing;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * 주문을 접수합니다. 품목 가격은 클라이언트 값이 아닌 카탈로그의 현재 가격을 사용합니다.
+     * 미등록 상품이 포함된 주문은 접수 제한({@link AdmissionControl})을 거치기 전에 거절하므로 접수 한도를 소비하지 않습니다.
+     * <p>
+     * {@code timeout}을 지정하면 접수 시각 + timeout을 처리 기한으로 삼아, 기한이 지나도록 재고 할당/결제가
+     * 시작되지 않은 주문은 처리하지 않고 취소합니다.
+     * <p>
+     * 다건 주문 이전의 단일 품목 요청 {@code {"productId", "quantity", "price"}}도 한 품목짜리 주문으로 받습니다.
+     * 이때 {@code price}는 무시하고 카탈로그 가격을 사용합니다.
+     */
     @PostMapping
     public String placeOrder(@Valid @RequestBody PlaceOrderRequest request) {
-        Order order = new Order(request.productId(), request.quantity(), request.price());
-        orderManagement.place(order);
+        List<OrderLineRequest> lines = request.orderLines();
+        List<String> productIds = lines.stream()
+                .map(OrderLineRequest::productId)
+                .distinct()
+                .toList();
+        Map<String, Long> prices = priceCatalog.pricesOf(productIds);
+        admissionControl.admit(productIds);
+
+        LocalDateTime deadline = request.timeout() == null ? null : LocalDateTime.now().plus(request.timeout());
+        Order order = new Order(lines.stream()
+                .map(line -> new OrderLine(line.productId(), line.quantity(), prices.get(line.productId())))
+                .toList(), deadline);
+        orderIntake.accept(order);
         return order.getId();
     }
 
+    /**
+     * 주문 목록을 주문 ID 순으로 조회합니다. 응답은 {@code {"orders": [...], "next": "<커서>"}} 형태이며,
+     * 다음 페이지는 {@code next}를 {@code after}로 넘겨 조회합니다. (마지막 페이지면 {@code next}는 null,
+     * 상태와 상품 조건을 함께 쓰면 페이지가 짧거나 비어 있어도 {@code next}가 있으면 이어서 조회합니다)
+     * <p>
+     * 페이지는 요청 스레드에서 조회를 마친 뒤 JSON으로 스트리밍하므로, 응답을 내보내는 동안 커넥션을 점유하지 않고
+     * 직렬화된 응답 전체를 메모리에 만들지도 않습니다.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> listOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String productId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(OrderListing.MAX_PAGE_SIZE) int limit) {
+        OrderListing.Page page = orderListing.list(status, productId, after, limit);
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator json = objectMapper.createGenerator(output)) {
+                json.writeStartObject();
+                json.writeName("orders");
+                json.writeStartArray();
+                page.orders().forEach(json::writePOJO);
+                json.writeEndArray();
+                json.writeName("next");
+                if (page.next() == null) {
+                    json.writeNull();
+                } else {
+                    json.writeString(page.next());
+                }
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 주문을 조회합니다. 보관 테이블로 옮겨진 종료 주문도 조회됩니다.
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderView> getOrder(@PathVariable String orderId) {
+        return ResponseEntity.of(orderLookup.find(orderId));
+    }
+
+    /**
+     * 과부하로 접수를 거절한 경우 429 응답과 함께 재시도 시점(Retry-After)을 알려줍니다.
+     */
+    @ExceptionHandler(OrderRejectedException.class)
+    ResponseEntity<String> handleRejected(OrderRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(UnknownProductException.class)
+    ResponseEntity<String> handleUnknownProduct(UnknownProductException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * 주문 접수 요청입니다. {@code lines} 또는 (호환용) 단일 품목 필드 중 한 가지 형태만 사용합니다.
+     */
     record PlaceOrderRequest(
+            List<@Valid OrderLineRequest> lines,
+            @DurationMin(millis = 1) Duration timeout, // 선택: 처리 기한까지 남은 시간 (예: "PT30S")
+            @Deprecated String productId, // 호환: 단일 품목 요청
+            @Deprecated @Min(1) Integer quantity,
+            @Deprecated Long price // 호환: 받기만 하고 사용하지 않음 (카탈로그 가격 사용)
+    ) {
+
+        @AssertTrue(message = "lines 또는 productId/quantity 중 한 가지 형태로 품목을 지정해야 합니다.")
+        boolean isLineShapeValid() {
+            boolean multiLine = lines != null && !lines.isEmpty();
+            boolean singleLine = productId != null && !productId.isBlank() && quantity != null;
+            return multiLine != singleLine;
+        }
+
+        List<OrderLineRequest> orderLines() {
+            return lines != null && !lines.isEmpty() ? lines : List.of(new OrderLineRequest(productId, quantity));
+        }
+    }
+
+    record OrderLineRequest(
             @NotBlank String productId,
-            @Min(1) int quantity,
-            @Min(0) long price
+            @Min(1) int quantity
     ) {}
 }
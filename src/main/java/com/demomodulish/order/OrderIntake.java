@@ -0,0 +1,12 @@
+package com.demomodulish.order;
+
+/**
+ * 주문 접수 방식입니다. {@code order.intake.mode}에 따라 구현이 선택됩니다.
+ */
+interface OrderIntake {
+
+    /**
+     * 주문을 접수합니다. 이 메서드가 반환되면 주문은 유실되지 않음이 보장됩니다.
+     */
+    void accept(Order order);
+}
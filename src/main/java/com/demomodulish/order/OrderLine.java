@@ -0,0 +1,35 @@
+package com.demomodulish.order;
+
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+/**
+ * 주문에 포함된 개별 품목입니다.
+ */
+@Getter
+@Embeddable
+public class OrderLine {
+
+    @NotBlank
+    private String productId;
+
+    @Min(1)
+    private int quantity;
+
+    @Min(0)
+    private long price;
+
+    protected OrderLine() {}
+
+    public OrderLine(String productId, int quantity, long price) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    public long getAmount() {
+        return this.price * this.quantity;
+    }
+}
@@ -0,0 +1,130 @@
+package com.demomodulish.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상태/상품 조건으로 운영 테이블의 주문 목록을 주문 ID 키셋 커서로 조회합니다. (보관 테이블은 포함하지 않습니다)
+ * <p>
+ * OFFSET 없이 커서({@code after}) 다음부터 읽으므로 페이지 깊이와 관계없이 조회 비용이 같습니다.
+ * 조건별로 (status, id), (product_id, order_id) 인덱스를 사용합니다. 한 페이지(최대 {@link #MAX_PAGE_SIZE}건)를
+ * 읽기 전용 트랜잭션 안에서 모두 읽어 반환하므로, 응답을 클라이언트로 내보내는 동안에는 커넥션을 점유하지 않습니다.
+ * <p>
+ * 상품 조건이 있으면 (product_id, order_id) 인덱스에서 커서 다음의 주문 ID를 청크 단위로 읽어 주문과 조인합니다.
+ * 상태 조건까지 있으면 한 번 호출에 최대 {@code order.listing.max-scanned-orders}건의 주문만 훑고, 페이지를
+ * 채우지 못했더라도 마지막으로 훑은 주문 ID를 다음 커서로 반환하므로 조회 비용이 상품의 주문 이력 크기에 비례하지 않습니다.
+ * (짧거나 빈 페이지도 다음 커서가 있으면 이어서 조회합니다)
+ */
+@Component
+class OrderListing {
+
+    static final int MAX_PAGE_SIZE = 5000;
+
+    private static final int SCAN_CHUNK_SIZE = 500;
+
+    private static final int FETCH_SIZE = 200;
+
+    private static final String SUMMARY_COLUMNS = """
+            SELECT o.id, o.status, o.created_at, o.updated_at, o.deadline,
+                   (SELECT COALESCE(SUM(l.quantity * l.price), 0) FROM order_lines l WHERE l.order_id = o.id) AS total_amount
+            """;
+
+    private static final RowMapper<OrderSummary> SUMMARY = (rs, rowNum) -> new OrderSummary(
+            rs.getString("id"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getLong("total_amount"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")),
+            toLocalDateTime(rs.getTimestamp("deadline")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxScannedOrders;
+
+    OrderListing(JdbcTemplate jdbcTemplate,
+                 @Value("${order.listing.max-scanned-orders:20000}") int maxScannedOrders) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.maxScannedOrders = maxScannedOrders;
+    }
+
+    /**
+     * 조건에 맞는 주문을 {@code after} 다음부터 ID 순으로 최대 {@code limit}건 조회합니다.
+     *
+     * @param status    상태 조건 (null이면 전체)
+     * @param productId 포함된 상품 조건 (null이면 전체)
+     * @param after     이전 페이지의 다음 커서 (첫 페이지는 빈 문자열)
+     */
+    @Transactional(readOnly = true)
+    public Page list(OrderStatus status, String productId, String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + limit);
+        }
+        String cursor = after == null ? "" : after;
+        return productId == null ? listAll(status, cursor, limit) : listOfProduct(status, productId, cursor, limit);
+    }
+
+    private Page listAll(OrderStatus status, String cursor, int limit) {
+        String sql = SUMMARY_COLUMNS + " FROM orders o WHERE o.id > ?"
+                + (status == null ? "" : " AND o.status = ?")
+                + " ORDER BY o.id LIMIT ?";
+        List<OrderSummary> orders = status == null
+                ? jdbcTemplate.query(sql, SUMMARY, cursor, limit)
+                : jdbcTemplate.query(sql, SUMMARY, cursor, status.name(), limit);
+        return new Page(orders, orders.size() == limit ? orders.getLast().id() : null);
+    }
+
+    /**
+     * 상품의 주문 ID를 청크 단위로 읽어 조건에 맞는 주문을 모읍니다. 상태 조건이 없으면 모든 행이 조건에 맞으므로
+     * 한 청크({@code limit}건)로 끝납니다.
+     */
+    private Page listOfProduct(OrderStatus status, String productId, String cursor, int limit) {
+        String sql = SUMMARY_COLUMNS + """
+                FROM (SELECT DISTINCT p.order_id FROM order_lines p
+                      WHERE p.product_id = ? AND p.order_id > ?
+                      ORDER BY p.order_id LIMIT ?) m
+                JOIN orders o ON o.id = m.order_id
+                ORDER BY m.order_id
+                """;
+        int chunkSize = status == null ? limit : Math.min(SCAN_CHUNK_SIZE, maxScannedOrders);
+        List<OrderSummary> orders = new ArrayList<>();
+        String scanned = cursor;
+        int scannedCount = 0;
+        while (scannedCount < maxScannedOrders) {
+            List<OrderSummary> chunk = jdbcTemplate.query(sql, SUMMARY, productId, scanned, chunkSize);
+            for (OrderSummary summary : chunk) {
+                scanned = summary.id();
+                if (status == null || summary.status() == status) {
+                    orders.add(summary);
+                    if (orders.size() == limit) {
+                        return new Page(orders, summary.id());
+                    }
+                }
+            }
+            scannedCount += chunk.size();
+            if (chunk.size() < chunkSize) {
+                return new Page(orders, null);
+            }
+        }
+        return new Page(orders, scanned);
+    }
+
+    /**
+     * 주문 목록 한 페이지입니다.
+     *
+     * @param next 다음 페이지 커서. 더 조회할 주문이 없으면 null
+     */
+    record Page(List<OrderSummary> orders, String next) {
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
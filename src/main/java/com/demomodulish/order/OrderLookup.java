@@ -0,0 +1,127 @@
+package com.demomodulish.order;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 주문 단건 조회입니다. 운영 테이블에 없으면 보관(archive) 테이블을 조회합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderLookup {
+
+    private static final String FINISHED_BRANCH = """
+            SELECT id, updated_at, %s AS archived FROM %s
+            WHERE status IN (?, ?) AND updated_at >= ? AND updated_at < ?
+              AND (updated_at > ? OR (updated_at = ? AND id > ?))
+            ORDER BY updated_at, id
+            LIMIT ?
+            """;
+
+    private static final String FINISHED_KEYS_SQL = "SELECT id, updated_at, archived FROM ("
+            + "(" + FINISHED_BRANCH.formatted("FALSE", "orders") + ") UNION ALL ("
+            + FINISHED_BRANCH.formatted("TRUE", "orders_archive") + ")"
+            + ") k ORDER BY updated_at, id LIMIT ?";
+
+    private static final RowMapper<FinishedKey> FINISHED_KEY = (rs, rowNum) -> new FinishedKey(
+            rs.getString("id"), rs.getTimestamp("updated_at").toLocalDateTime(), rs.getBoolean("archived"));
+
+    private final OrderRepository orders;
+    private final ArchivedOrderRepository archivedOrders;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    OrderLookup(OrderRepository orders, ArchivedOrderRepository archivedOrders, JdbcTemplate jdbcTemplate,
+                PlatformTransactionManager transactionManager) {
+        this.orders = orders;
+        this.archivedOrders = archivedOrders;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Optional<OrderView> find(String orderId) {
+        return orders.findById(orderId)
+                .map(OrderView::of)
+                .or(() -> archivedOrders.findById(orderId).map(OrderView::of));
+    }
+
+    /**
+     * [from, to) 구간에 종료(COMPLETED/CANCELLED)된 주문을 운영 테이블과 보관 테이블을 합쳐 (updatedAt, id) 순으로
+     * 페이지 단위로 전달합니다.
+     * <p>
+     * 두 테이블을 UNION ALL 한 문장으로 하나의 (updatedAt, id) 키셋 커서로 순회합니다. 보관 시 updatedAt이 유지되므로,
+     * 순회 도중 보관된 주문도 한 문장의 스냅샷에서는 한쪽 테이블에만 보여 정확히 한 번 전달됩니다.
+     * 페이지마다 별도의 읽기 전용 트랜잭션을 사용하므로 구간이 길어도 영속성 컨텍스트가 커지지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachFinished(LocalDateTime from, LocalDateTime to, int pageSize, Consumer<List<OrderView>> action) {
+        LocalDateTime afterUpdatedAt = from;
+        String afterId = "";
+        while (true) {
+            LocalDateTime cursorUpdatedAt = afterUpdatedAt;
+            String cursorId = afterId;
+            List<FinishedKey> keys = new ArrayList<>();
+            List<OrderView> page = readOnlyTransaction.execute(status -> {
+                keys.addAll(findFinishedKeys(from, to, cursorUpdatedAt, cursorId, pageSize));
+                return load(keys);
+            });
+            if (keys.isEmpty()) {
+                return;
+            }
+            if (page != null && !page.isEmpty()) {
+                action.accept(page);
+            }
+            if (keys.size() < pageSize) {
+                return;
+            }
+            FinishedKey last = keys.getLast();
+            afterUpdatedAt = last.updatedAt();
+            afterId = last.id();
+        }
+    }
+
+    private List<FinishedKey> findFinishedKeys(LocalDateTime from, LocalDateTime to,
+                                               LocalDateTime afterUpdatedAt, String afterId, int limit) {
+        Object[] branchArgs = {OrderStatus.COMPLETED.name(), OrderStatus.CANCELLED.name(),
+                Timestamp.valueOf(from), Timestamp.valueOf(to),
+                Timestamp.valueOf(afterUpdatedAt), Timestamp.valueOf(afterUpdatedAt), afterId, limit};
+        List<Object> args = new ArrayList<>(List.of(branchArgs));
+        args.addAll(List.of(branchArgs));
+        args.add(limit);
+        return jdbcTemplate.query(FINISHED_KEYS_SQL, FINISHED_KEY, args.toArray());
+    }
+
+    /**
+     * 키 순서대로 주문을 읽습니다. 키 조회 이후 보관된 주문은 보관 테이블에서 읽습니다.
+     */
+    private List<OrderView> load(List<FinishedKey> keys) {
+        Map<String, OrderView> views = new HashMap<>();
+        orders.findAllById(keys.stream().filter(key -> !key.archived()).map(FinishedKey::id).toList())
+                .forEach(order -> views.put(order.getId(), OrderView.of(order)));
+        archivedOrders.findAllById(keys.stream().map(FinishedKey::id).filter(id -> !views.containsKey(id)).toList())
+                .forEach(order -> views.put(order.getId(), OrderView.of(order)));
+        return keys.stream().map(key -> views.get(key.id())).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 종료 주문의 키셋 커서 위치와 조회된 테이블
+     */
+    private record FinishedKey(String id, LocalDateTime updatedAt, boolean archived) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.demomodulish.order;
 
 import com.demomodulish.common.InventoryFailedEvent;
+import com.demomodulish.common.LineItem;
 import com.demomodulish.common.OrderCompletedEvent;
+import com.demomodulish.common.OrderFinishedEvent;
 import com.demomodulish.common.PaymentCompletedEvent;
 import com.demomodulish.common.PaymentFailedEvent;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 @Transactional
@@ -27,47 +33,93 @@ public class OrderManagement {
 
     public void place(Order order) {
         orders.save(order);
-        // 총 금액을 이벤트에 포함하여 발행
+        // 주문 품목 전체와 총 금액을 하나의 이벤트로 발행
         events.publishEvent(new OrderCompletedEvent(
                 order.getId(),
-                order.getProductId(),
-                order.getQuantity(),
-                order.getTotalAmount()
+                toLineItems(order),
+                order.getTotalAmount(),
+                order.getDeadline()
         ));
     }
 
     /**
-     * [변경] 결제 완료 시 주문을 최종 확정합니다.
+     * 접수 저널에서 읽은 주문을 한 트랜잭션으로 저장하고 이벤트를 발행합니다.
+     * <p>
+     * 저널 재생으로 이미 저장된 주문이 다시 들어오면 건너뜁니다.
+     *
+     * @return 새로 저장된 주문 수
+     */
+    public int placeAll(List<Order> batch) {
+        Set<String> existingIds = new HashSet<>();
+        orders.findAllById(batch.stream().map(Order::getId).toList())
+                .forEach(order -> existingIds.add(order.getId()));
+
+        int placed = 0;
+        for (Order order : batch) {
+            if (existingIds.add(order.getId())) {
+                place(order);
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    /**
+     * [변경] 결제 완료 시 주문을 최종 확정합니다. 완료/보상 리스너는 우선순위 실행기에서 실행됩니다.
      */
+    @Async("orderPriorityExecutor")
     @ApplicationModuleListener
     public void on(PaymentCompletedEvent event) {
         orders.findById(event.orderId()).ifPresent(order -> {
-            log.info("✅ [Order] 결제 확인 완료 -> 주문 확정(COMPLETED): {}", order.getId());
-            order.complete();
+            if (order.complete()) {
+                log.info("✅ [Order] 결제 확인 완료 -> 주문 확정(COMPLETED): {}", order.getId());
+                events.publishEvent(finished(order));
+            } else {
+                log.warn("⚠️ [Order] 이미 {} 상태인 주문의 결제가 완료되었습니다: {}", order.getStatus(), order.getId());
+            }
         });
     }
 
     /**
      * [추가] 결제 실패 시 주문을 취소합니다.
      */
+    @Async("orderPriorityExecutor")
     @ApplicationModuleListener
     public void on(PaymentFailedEvent event) {
-        orders.findById(event.orderId()).ifPresent(order -> {
+        orders.findById(event.orderId()).filter(Order::cancel).ifPresent(order -> {
             log.info("📦 [Order] 결제 실패로 인한 주문 취소 처리: {}", order.getId());
-            order.cancel();
+            events.publishEvent(finished(order));
         });
     }
 
     /**
      * 재고 부족 시 실행되는 보상 트랜잭션 (기존 로직 유지)
      */
-    @Async
+    @Async("orderPriorityExecutor")
     @ApplicationModuleListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void on(InventoryFailedEvent event) {
-        orders.findById(event.orderId()).ifPresent(order -> {
+        orders.findById(event.orderId()).filter(Order::cancel).ifPresent(order -> {
             log.info("📦 [Order] 재고 부족으로 인한 주문 취소 처리: {}", order.getId());
-            order.cancel();
+            events.publishEvent(finished(order));
         });
     }
+
+    /**
+     * 방금 최종 상태로 전이한 주문의 종료 이벤트입니다. 전이 시각은 주문 이력 재계산과 같은 updatedAt을 사용합니다.
+     */
+    static OrderFinishedEvent finished(Order order) {
+        return new OrderFinishedEvent(order.getId(), order.getStatus() == OrderStatus.COMPLETED,
+                toLineItems(order), order.getUpdatedAt());
+    }
+
+    static List<LineItem> toLineItems(Order order) {
+        return toLineItems(order.getLines());
+    }
+
+    static List<LineItem> toLineItems(List<OrderLine> lines) {
+        return lines.stream()
+                .map(line -> new LineItem(line.getProductId(), line.getQuantity(), line.getPrice()))
+                .toList();
+    }
 }
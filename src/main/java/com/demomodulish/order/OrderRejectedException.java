@@ -0,0 +1,19 @@
+package com.demomodulish.order;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 과부하로 인해 주문 접수가 거절되었음을 나타냅니다. 클라이언트는 {@link #getRetryAfter()} 이후 재시도해야 합니다.
+ */
+@Getter
+class OrderRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    OrderRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,6 +1,42 @@
 package com.demomodulish.order;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface OrderRepository extends CrudRepository<Order, String> {
+
+    /**
+     * 지정한 시각 이전에 마지막으로 상태가 바뀐 주문 수를 셉니다. (status, updated_at) 인덱스 범위만 읽습니다.
+     */
+    long countByStatusAndUpdatedAtBefore(OrderStatus status, LocalDateTime cutoff);
+
+    /**
+     * (updatedAt, id) 키셋 커서 다음의 멈춘 주문을 오래된 순으로 조회합니다.
+     * <p>
+     * OFFSET 없이 커서 이후만 읽으므로 페이지가 뒤로 가도 비용이 일정하며, 품목은 로딩하지 않습니다.
+     */
+    @Query("""
+            SELECT new com.demomodulish.order.StaleOrder(o.id, o.updatedAt, o.resubmissions)
+            FROM Order o
+            WHERE o.status = :status
+              AND o.updatedAt < :cutoff
+              AND (o.updatedAt > :afterUpdatedAt OR (o.updatedAt = :afterUpdatedAt AND o.id > :afterId))
+            ORDER BY o.updatedAt ASC, o.id ASC
+            """)
+    List<StaleOrder> findStale(OrderStatus status, LocalDateTime cutoff,
+                               LocalDateTime afterUpdatedAt, String afterId, Limit limit);
+
+    /**
+     * 지정한 시각 이전에 종료된 주문 ID를 오래된 순으로 조회합니다. (status, updated_at) 인덱스 범위만 읽습니다.
+     */
+    @Query("""
+            SELECT o.id FROM Order o
+            WHERE o.status = :status AND o.updatedAt < :cutoff
+            ORDER BY o.updatedAt ASC
+            """)
+    List<String> findIdsToArchive(OrderStatus status, LocalDateTime cutoff, Limit limit);
 }
@@ -0,0 +1,19 @@
+package com.demomodulish.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회 결과입니다. 품목 컬렉션이나 엔티티를 로딩하지 않고 목록에 필요한 컬럼만 담습니다.
+ *
+ * @param totalAmount 품목 금액 합계
+ * @param deadline    처리 기한 (없으면 null)
+ */
+public record OrderSummary(
+        String id,
+        OrderStatus status,
+        long totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime deadline
+) {
+}
@@ -0,0 +1,32 @@
+package com.demomodulish.order;
+
+import com.demomodulish.common.LineItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 조회 결과입니다. 운영 테이블과 보관(archive) 테이블 중 어디에서 조회했는지와 관계없이 같은 형태로 반환합니다.
+ *
+ * @param archived 보관 테이블에서 조회한 주문이면 {@code true}
+ */
+public record OrderView(
+        String id,
+        OrderStatus status,
+        List<LineItem> lines,
+        long totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean archived
+) {
+    static OrderView of(Order order) {
+        return new OrderView(order.getId(), order.getStatus(), OrderManagement.toLineItems(order.getLines()),
+                order.getTotalAmount(), order.getCreatedAt(), order.getUpdatedAt(), false);
+    }
+
+    static OrderView of(ArchivedOrder order) {
+        List<LineItem> lines = OrderManagement.toLineItems(order.getLines());
+        return new OrderView(order.getId(), order.getStatus(), lines,
+                lines.stream().mapToLong(LineItem::amount).sum(), order.getCreatedAt(), order.getUpdatedAt(), true);
+    }
+}
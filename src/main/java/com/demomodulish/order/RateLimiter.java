@@ -0,0 +1,61 @@
+package com.demomodulish.order;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 허용량을 실행 중에 조정할 수 있는 토큰 버킷입니다. 최대 1초 분량까지 버스트를 허용합니다.
+ */
+class RateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final LongSupplier nanoClock;
+    private double permitsPerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+
+    RateLimiter(double permitsPerSecond, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.permitsPerSecond = permitsPerSecond;
+        this.tokens = capacity();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 받은 토큰을 사용하지 않았을 때 돌려줍니다. 버킷 용량을 넘지 않습니다.
+     */
+    synchronized void release() {
+        refill();
+        tokens = Math.min(capacity(), tokens + 1);
+    }
+
+    synchronized void setRate(double permitsPerSecond) {
+        refill();
+        this.permitsPerSecond = permitsPerSecond;
+        this.tokens = Math.min(tokens, capacity());
+    }
+
+    synchronized double rate() {
+        return permitsPerSecond;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / NANOS_PER_SECOND;
+        tokens = Math.min(capacity(), tokens + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    private double capacity() {
+        return Math.max(1, permitsPerSecond);
+    }
+}
@@ -0,0 +1,25 @@
+package com.demomodulish.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 진행이 멈춘 주문 정리(Stale Order Reaper) 설정입니다. 실행 주기는 {@code order.reaper.interval-millis}로 지정합니다.
+ *
+ * @param enabled          정리 작업 사용 여부
+ * @param staleAfter       마지막 상태 전이 후 이 시간이 지나도 대기(PENDING) 상태면 멈춘 주문으로 간주
+ * @param batchSize        한 트랜잭션에서 처리하는 주문 수
+ * @param maxBatchesPerRun 한 번 실행할 때 처리하는 최대 배치 수
+ * @param maxResubmissions 주문당 이벤트 재발행 최대 횟수. 초과하면 주문을 취소합니다.
+ */
+@ConfigurationProperties("order.reaper")
+record ReaperProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration staleAfter,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10") int maxBatchesPerRun,
+        @DefaultValue("3") int maxResubmissions
+) {
+}
@@ -0,0 +1,9 @@
+package com.demomodulish.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멈춘 주문 정리에 필요한 최소 정보(키셋 커서 포함)만 담은 조회 결과입니다.
+ */
+public record StaleOrder(String id, LocalDateTime updatedAt, int resubmissions) {
+}
@@ -0,0 +1,206 @@
+package com.demomodulish.order;
+
+import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.OrderCancelledEvent;
+import com.demomodulish.common.OrderEvent;
+import com.demomodulish.common.PaymentCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 유실이나 리스너의 반복 실패로 대기(PENDING) 상태에 멈춘 주문을 정리합니다.
+ * <p>
+ * (status, updated_at) 인덱스를 (updatedAt, id) 키셋 커서로 순회하며, 한 번 실행에 최대
+ * {@code maxBatchesPerRun} × {@code batchSize}건만 처리합니다. 주문의 미완료 이벤트 발행이 남아 있고 재발행 한도 이내면
+ * 이벤트를 재발행하고, 그렇지 않으면 주문을 취소하고 {@link OrderCancelledEvent}를 발행하여 차감된 재고를 복구하게 합니다.
+ * <p>
+ * 재발행은 이벤트 발행 레지스트리 전체를 읽으므로, 먼저 이번 실행의 대상 페이지를 모두 모은 뒤 한 번만 실행합니다.
+ * <p>
+ * 결제 요청({@link InventoryVerifiedEvent})이나 결제 완료({@link PaymentCompletedEvent}) 이벤트가 미완료로 남은 주문은
+ * 이미 결제되었을 수 있으므로 재발행 한도와 관계없이 취소하지 않고 재발행합니다. 결제 승인은 주문 ID 기준으로 멱등이므로
+ * 재발행해도 이중 청구되지 않으며, 한도를 넘긴 주문은 {@code orders.reaper.payment-unresolved}로 집계하여 수동 확인하게 합니다.
+ */
+@Slf4j
+@Component
+class StaleOrderReaper {
+
+    private static final Cursor START = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+    private final OrderRepository orders;
+    private final IncompleteEventPublications publications;
+    private final ApplicationEventPublisher events;
+    private final TransactionOperations transactions;
+    private final ReaperProperties properties;
+    private final AtomicLong staleOrders = new AtomicLong();
+    private final Counter resubmittedOrders;
+    private final Counter cancelledOrders;
+    private final Counter paymentUnresolvedOrders;
+
+    StaleOrderReaper(OrderRepository orders,
+                     IncompleteEventPublications publications,
+                     ApplicationEventPublisher events,
+                     TransactionOperations transactions,
+                     ReaperProperties properties,
+                     MeterRegistry registry) {
+        this.orders = orders;
+        this.publications = publications;
+        this.events = events;
+        this.transactions = transactions;
+        this.properties = properties;
+        Gauge.builder("orders.reaper.stale", staleOrders, AtomicLong::get).register(registry);
+        this.resubmittedOrders = Counter.builder("orders.reaper.resubmitted").register(registry);
+        this.cancelledOrders = Counter.builder("orders.reaper.cancelled").register(registry);
+        this.paymentUnresolvedOrders = Counter.builder("orders.reaper.payment-unresolved").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.reaper.interval-millis:60000}",
+            initialDelayString = "${order.reaper.interval-millis:60000}")
+    void scheduledReap() {
+        if (properties.enabled()) {
+            reap();
+        }
+    }
+
+    ReapReport reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.staleAfter());
+        long stale = transactions.execute(status -> orders.countByStatusAndUpdatedAtBefore(OrderStatus.PENDING, cutoff));
+        staleOrders.set(stale);
+        if (stale == 0) {
+            return new ReapReport(0, 0, 0);
+        }
+
+        List<List<StaleOrder>> pages = new ArrayList<>();
+        Cursor cursor = START;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            Cursor after = cursor;
+            List<StaleOrder> page = transactions.execute(status -> orders.findStale(OrderStatus.PENDING, cutoff,
+                    after.updatedAt(), after.id(), Limit.of(properties.batchSize())));
+            if (page.isEmpty()) {
+                break;
+            }
+            pages.add(page);
+
+            StaleOrder last = page.getLast();
+            cursor = new Cursor(last.updatedAt(), last.id());
+            if (page.size() < properties.batchSize()) {
+                break;
+            }
+        }
+
+        Resubmission resubmission = resubmit(pages.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(StaleOrder::id, StaleOrder::resubmissions, (first, second) -> first)));
+
+        int resubmitted = 0;
+        int cancelled = 0;
+        for (List<StaleOrder> page : pages) {
+            ReapReport result = reapBatch(page, resubmission);
+            resubmitted += result.resubmitted();
+            cancelled += result.cancelled();
+        }
+
+        resubmittedOrders.increment(resubmitted);
+        cancelledOrders.increment(cancelled);
+        log.info("🧹 [Order] 멈춘 주문 정리: 대상 {}건, 재발행 {}건, 취소 {}건", stale, resubmitted, cancelled);
+        return new ReapReport(stale, resubmitted, cancelled);
+    }
+
+    private ReapReport reapBatch(List<StaleOrder> page, Resubmission resubmission) {
+        return transactions.execute(status -> {
+            int resubmittedCount = 0;
+            int cancelledCount = 0;
+            for (Order order : orders.findAllById(page.stream().map(StaleOrder::id).toList())) {
+                if (order.getStatus() != OrderStatus.PENDING) {
+                    continue; // 조회 이후 진행된 주문
+                }
+                if (resubmission.awaitingPayment().contains(order.getId())) {
+                    if (order.getResubmissions() >= properties.maxResubmissions()) {
+                        log.warn("⚠️ [Order] 결제 결과 미확인 주문 -> 취소 보류, 수동 확인 필요: {}", order.getId());
+                        paymentUnresolvedOrders.increment();
+                    }
+                    order.markResubmitted();
+                    resubmittedCount++;
+                } else if (resubmission.resubmitted().contains(order.getId())) {
+                    order.markResubmitted();
+                    resubmittedCount++;
+                } else if (order.cancel()) {
+                    String reason = order.getResubmissions() >= properties.maxResubmissions()
+                            ? "재처리 한도 초과" : "진행 중인 이벤트 없음";
+                    log.info("🧹 [Order] 멈춘 주문 취소 ({}): {}", reason, order.getId());
+                    events.publishEvent(new OrderCancelledEvent(order.getId(), reason, OrderManagement.toLineItems(order)));
+                    events.publishEvent(OrderManagement.finished(order));
+                    cancelledCount++;
+                }
+            }
+            return new ReapReport(page.size(), resubmittedCount, cancelledCount);
+        });
+    }
+
+    /**
+     * 주어진 주문들(주문 ID → 재발행 횟수)의 미완료 이벤트 발행을 레지스트리 한 번 순회로 재발행합니다.
+     * <p>
+     * 결제 결과가 주문에 반영되지 않은 이벤트는 재발행 한도와 관계없이 재발행하고, 그 밖의 이벤트는 한도 이내일 때만 재발행합니다.
+     */
+    private Resubmission resubmit(Map<String, Integer> resubmissionsByOrderId) {
+        if (resubmissionsByOrderId.isEmpty()) {
+            return new Resubmission(Set.of(), Set.of());
+        }
+        Set<String> resubmitted = ConcurrentHashMap.newKeySet();
+        Set<String> awaitingPayment = ConcurrentHashMap.newKeySet();
+        publications.resubmitIncompletePublications(publication -> {
+            if (!(publication.getEvent() instanceof OrderEvent event)
+                    || !resubmissionsByOrderId.containsKey(event.orderId())) {
+                return false;
+            }
+            if (event instanceof InventoryVerifiedEvent || event instanceof PaymentCompletedEvent) {
+                awaitingPayment.add(event.orderId());
+                return true;
+            }
+            if (resubmissionsByOrderId.get(event.orderId()) < properties.maxResubmissions()) {
+                resubmitted.add(event.orderId());
+                return true;
+            }
+            return false;
+        });
+        return new Resubmission(resubmitted, awaitingPayment);
+    }
+
+    /**
+     * 한 번의 정리 결과입니다.
+     *
+     * @param stale       실행 시점의 멈춘 주문 수
+     * @param resubmitted 이벤트를 재발행한 주문 수
+     * @param cancelled   취소한 주문 수
+     */
+    record ReapReport(long stale, int resubmitted, int cancelled) {
+    }
+
+    private record Cursor(LocalDateTime updatedAt, String id) {
+    }
+
+    /**
+     * 재발행 결과입니다.
+     *
+     * @param resubmitted     한도 이내에서 이벤트를 재발행한 주문 ID
+     * @param awaitingPayment 결제 결과가 아직 주문에 반영되지 않아 취소하면 안 되는 주문 ID
+     */
+    private record Resubmission(Set<String> resubmitted, Set<String> awaitingPayment) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.demomodulish.payment;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문별 결제 승인 시도 기록입니다. 같은 주문의 승인 요청이 다시 도착했을 때 중복 처리 방지(멱등성)의 기준이 됩니다.
+ * <p>
+ * 결과가 정해지지 않은 기록은 게이트웨이로 전송되었을 수 있는 주문이므로, 재처리 시 즉시 실패시키지 않고
+ * 같은 주문 ID로 게이트웨이에 다시 확인합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+class PaymentAttempt {
+
+    enum Outcome {
+        APPROVED, DECLINED
+    }
+
+    @Id
+    private String orderId;
+    private LocalDateTime requestedAt;
+
+    /**
+     * 확정된 승인 결과 (미확정이면 {@code null})
+     */
+    @Enumerated(EnumType.STRING)
+    private Outcome outcome;
+    private String reason;
+    private LocalDateTime decidedAt;
+
+    PaymentAttempt(String orderId, LocalDateTime requestedAt) {
+        this.orderId = orderId;
+        this.requestedAt = requestedAt;
+    }
+
+    boolean isDecided() {
+        return outcome != null;
+    }
+
+    /**
+     * 승인 결과를 확정합니다. 이미 확정된 기록이면 {@code false}를 반환합니다.
+     */
+    boolean decide(PaymentAuthorization authorization, LocalDateTime decidedAt) {
+        if (isDecided()) {
+            return false;
+        }
+        this.outcome = authorization.approved() ? Outcome.APPROVED : Outcome.DECLINED;
+        this.reason = authorization.reason();
+        this.decidedAt = decidedAt;
+        return true;
+    }
+
+    PaymentAuthorization toAuthorization() {
+        return outcome == Outcome.APPROVED
+                ? PaymentAuthorization.approved(orderId)
+                : PaymentAuthorization.declined(orderId, reason);
+    }
+}
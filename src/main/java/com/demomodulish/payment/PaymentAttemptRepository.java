@@ -0,0 +1,6 @@
+package com.demomodulish.payment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface PaymentAttemptRepository extends JpaRepository<PaymentAttempt, String> {
+}
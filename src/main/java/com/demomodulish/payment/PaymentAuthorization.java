@@ -0,0 +1,15 @@
+package com.demomodulish.payment;
+
+public record PaymentAuthorization(
+        String orderId,
+        boolean approved,
+        String reason // 거절 사유 (승인 시 null)
+) {
+    public static PaymentAuthorization approved(String orderId) {
+        return new PaymentAuthorization(orderId, true, null);
+    }
+
+    public static PaymentAuthorization declined(String orderId, String reason) {
+        return new PaymentAuthorization(orderId, false, reason);
+    }
+}
@@ -0,0 +1,255 @@
+package com.demomodulish.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 승인 요청을 마이크로 배치로 묶어 게이트웨이에 전달합니다.
+ * <p>
+ * 배치는 최대 크기({@code payment.batch.max-size})에 도달하거나 첫 요청 이후 최대 대기 시간
+ * ({@code payment.batch.max-wait})이 지나면 전송됩니다. 동시에 전송 중인 배치 수는
+ * {@code payment.batch.max-in-flight}로 제한됩니다. 디스패처는 전송 한도를 먼저 확보한 뒤 배치를 구성하므로,
+ * 한도에 도달한 동안 들어온 요청은 대기열에 쌓였다가 한도가 비면 다음 배치에 최대 크기까지 한 번에 담깁니다.
+ * <p>
+ * 게이트웨이 호출은 공용 비동기 실행기와 분리된 전용 스레드(벌크헤드)에서만 수행되며,
+ * 대기열이 {@code payment.bulkhead.max-queued}를 넘으면 즉시 거절하고, {@code payment.gateway.timeout} 안에
+ * 전송되지 못한 요청은 타임아웃으로 완료합니다. 타임아웃된 요청은 보상 경로로 넘어가므로 게이트웨이로 보내지 않습니다.
+ * <p>
+ * 이미 전송된 요청은 타임아웃하지 않고 게이트웨이의 실제 응답을 기다립니다. 전송 후 게이트웨이 호출이 실패하면
+ * 승인 여부를 알 수 없으므로 {@link PaymentOutcomeUnknownException}으로 완료하며, 호출자는 이를 결제 실패로
+ * 보상하지 않고 같은 주문 ID로 다시 요청합니다. (게이트웨이는 주문 ID 기준으로 멱등)
+ * 게이트웨이 호출의 성공/실패는 배치에 담긴 요청 수와 관계없이 호출 한 번당 한 번 서킷 브레이커에 기록합니다.
+ */
+@Slf4j
+@Component
+class PaymentBatcher implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PaymentGateway gateway;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration timeout;
+    private final Semaphore inFlight;
+    private final ExecutorService batchExecutor;
+    private final BlockingQueue<PendingAuthorization> queue;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    PaymentBatcher(PaymentGateway gateway,
+                   @Value("${payment.batch.max-size:50}") int maxBatchSize,
+                   @Value("${payment.batch.max-wait:10ms}") Duration maxWait,
+                   @Value("${payment.batch.max-in-flight:4}") int maxInFlight,
+                   @Value("${payment.bulkhead.max-queued:1000}") int maxQueued,
+                   @Value("${payment.gateway.timeout:2s}") Duration timeout,
+                   PaymentCircuitBreaker circuitBreaker) {
+        this.gateway = gateway;
+        this.circuitBreaker = circuitBreaker;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.timeout = timeout;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.queue = new LinkedBlockingQueue<>(maxQueued);
+        this.batchExecutor = Executors.newFixedThreadPool(maxInFlight,
+                Thread.ofPlatform().name("payment-batch-", 0).daemon().factory());
+        this.dispatcher = Thread.ofPlatform().name("payment-batcher").daemon().start(this::dispatchLoop);
+    }
+
+    /**
+     * 승인 요청을 대기열에 추가하고, 해당 요청이 포함된 배치의 결과를 비동기로 반환합니다.
+     * <p>
+     * 대기열이 가득 차면 {@link RejectedExecutionException}, 타임아웃 안에 전송되지 못하면
+     * {@link TimeoutException}, 전송 후 게이트웨이 호출이 실패하면 {@link PaymentOutcomeUnknownException}으로
+     * 완료됩니다. 호출 스레드는 블로킹되지 않습니다.
+     */
+    CompletableFuture<PaymentAuthorization> authorize(PaymentRequest request) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("결제 배치 처리기가 종료되었습니다."));
+        }
+        PendingAuthorization pending = new PendingAuthorization(request);
+        if (!queue.offer(pending)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("결제 대기열이 가득 찼습니다."));
+        }
+        if (!running && queue.remove(pending)) {
+            // 추가하는 사이에 종료되어 디스패처가 가져가지 않은 요청
+            pending.abandon(new IllegalStateException("결제 배치 처리기가 종료되었습니다."));
+        }
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() ->
+                pending.abandon(new TimeoutException("결제 요청이 %dms 안에 전송되지 않았습니다.".formatted(timeout.toMillis()))));
+        return pending.result();
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            List<PendingAuthorization> batch;
+            try {
+                if (!inFlight.tryAcquire(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                inFlight.release();
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                inFlight.release();
+                continue;
+            }
+
+            List<PendingAuthorization> toSend = batch;
+            try {
+                batchExecutor.execute(() -> {
+                    try {
+                        send(toSend);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                toSend.forEach(pending -> pending.abandon(e));
+            }
+        }
+    }
+
+    private List<PendingAuthorization> nextBatch() throws InterruptedException {
+        PendingAuthorization first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingAuthorization> batch = new ArrayList<>(maxBatchSize);
+        if (!first.isDone()) {
+            batch.add(first);
+        }
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingAuthorization next = remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                break;
+            }
+            if (!next.isDone()) {
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private void send(List<PendingAuthorization> queued) {
+        // 배치를 구성한 뒤 전송 전에 타임아웃된 요청은 제외하고, 나머지는 더 이상 타임아웃되지 않도록 전송 상태로 전환
+        List<PendingAuthorization> batch = queued.stream().filter(PendingAuthorization::markSent).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<PaymentAuthorization> results = gateway.authorize(batch.stream()
+                    .map(PendingAuthorization::request)
+                    .toList());
+            circuitBreaker.recordSuccess();
+            Map<String, PaymentAuthorization> resultsByOrderId = results.stream()
+                    .collect(Collectors.toMap(PaymentAuthorization::orderId, Function.identity(), (first, second) -> first));
+
+            log.info("💳 [Payment] 배치 승인 완료: {}건", batch.size());
+            batch.forEach(pending -> {
+                String orderId = pending.request().orderId();
+                pending.result().complete(resultsByOrderId.getOrDefault(orderId,
+                        PaymentAuthorization.declined(orderId, "결제 게이트웨이 응답 누락")));
+            });
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [Payment] 배치 승인 호출 실패, 승인 여부 미확인 ({}건): {}", batch.size(), e.getMessage());
+            circuitBreaker.recordFailure();
+            batch.forEach(pending -> pending.result().completeExceptionally(
+                    new PaymentOutcomeUnknownException(pending.request().orderId(), e)));
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        failRemaining();
+        batchExecutor.shutdown();
+        batchExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 디스패처가 종료된 뒤 대기열에 남은 요청을 실패로 완료합니다. 완료되지 않은 요청을 기다리는 호출자가 없도록 합니다.
+     */
+    private void failRemaining() {
+        List<PendingAuthorization> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException closed = new IllegalStateException("결제 배치 처리기가 종료되었습니다.");
+        remaining.forEach(pending -> pending.abandon(closed));
+    }
+
+    /**
+     * 대기 중인 승인 요청입니다. 전송({@link #markSent()})과 포기({@link #abandon(Throwable)}) 중 먼저 일어난 쪽만 유효합니다.
+     */
+    private static final class PendingAuthorization {
+
+        private final PaymentRequest request;
+        private final CompletableFuture<PaymentAuthorization> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        PendingAuthorization(PaymentRequest request) {
+            this.request = request;
+        }
+
+        PaymentRequest request() {
+            return request;
+        }
+
+        CompletableFuture<PaymentAuthorization> result() {
+            return result;
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        /**
+         * 게이트웨이로 보낼 요청으로 확정합니다. 이미 포기된 요청이면 false를 반환합니다.
+         */
+        boolean markSent() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * 아직 전송되지 않은 요청을 실패로 완료합니다. 이미 전송된 요청에는 영향을 주지 않습니다.
+         */
+        void abandon(Throwable cause) {
+            if (claimed.compareAndSet(false, true)) {
+                result.completeExceptionally(cause);
+            }
+        }
+    }
+}
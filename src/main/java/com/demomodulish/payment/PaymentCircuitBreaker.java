@@ -0,0 +1,115 @@
+package com.demomodulish.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 결제 게이트웨이 호출용 서킷 브레이커입니다.
+ * <p>
+ * 연속 실패가 {@code payment.circuit-breaker.failure-threshold}에 도달하면 회로를 열고(OPEN),
+ * {@code payment.circuit-breaker.open-duration} 동안 호출을 즉시 거절합니다. 이후 한 건의 시험 호출(HALF_OPEN)이
+ * 성공하면 회로를 닫고, 실패하면 다시 엽니다. 승인 거절은 정상 응답이므로 실패로 집계하지 않습니다.
+ * <p>
+ * 성공/실패는 요청 단위가 아니라 게이트웨이 호출(배치) 단위로 {@link PaymentBatcher}가 기록합니다.
+ * 허가를 받은 호출자는 결과와 관계없이 {@link #releasePermission(Permission)}으로 허가를 반납하며,
+ * 시험 호출이 게이트웨이에 도달하지 못하고 끝났다면(대기열 초과/타임아웃 등) 다음 요청이 시험 호출을 이어받습니다.
+ */
+@Slf4j
+@Component
+class PaymentCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    enum Permission {
+        REJECTED, PERMITTED, TRIAL;
+
+        boolean isPermitted() {
+            return this != REJECTED;
+        }
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    @Autowired
+    PaymentCircuitBreaker(@Value("${payment.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                          @Value("${payment.circuit-breaker.open-duration:10s}") Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    PaymentCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 게이트웨이 호출 가능 여부를 반환합니다. 회로가 열린 상태에서 대기 시간이 지나면 시험 호출 한 건만 허용합니다.
+     */
+    synchronized Permission tryAcquirePermission() {
+        return switch (state) {
+            case CLOSED -> Permission.PERMITTED;
+            case OPEN -> {
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    yield Permission.REJECTED;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                yield Permission.TRIAL;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield Permission.REJECTED;
+                }
+                trialInFlight = true;
+                yield Permission.TRIAL;
+            }
+        };
+    }
+
+    /**
+     * 허가를 반납합니다. 시험 호출의 결과가 기록되지 않은 채 끝났다면 시험 호출 권한을 다시 내어줍니다.
+     */
+    synchronized void releasePermission(Permission permission) {
+        if (permission == Permission.TRIAL && state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("🔌 [Payment] 결제 게이트웨이 회복 -> 서킷 CLOSED");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            log.warn("🔌 [Payment] 결제 게이트웨이 연속 실패 {}회 -> 서킷 OPEN", consecutiveFailures);
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,18 @@
+package com.demomodulish.payment;
+
+import java.util.List;
+
+/**
+ * 외부 결제 게이트웨이 연동 인터페이스입니다.
+ * <p>
+ * 게이트웨이는 네트워크 왕복 1회로 여러 건을 승인하는 배치 승인 호출을 지원한다고 가정합니다.
+ * 응답에는 요청한 주문마다 하나의 승인 결과가 포함되어야 합니다.
+ * <p>
+ * 승인은 주문 ID 기준으로 멱등이어야 합니다. 응답을 받지 못한 요청은 같은 주문 ID로 다시 보내지며,
+ * 이미 처리된 주문이면 이중 청구 없이 처음 결정된 결과를 돌려주어야 합니다.
+ * 호출 시간은 구현체가 스스로 제한하고, 제한을 넘기면 예외를 던집니다.
+ */
+public interface PaymentGateway {
+
+    List<PaymentAuthorization> authorize(List<PaymentRequest> requests);
+}
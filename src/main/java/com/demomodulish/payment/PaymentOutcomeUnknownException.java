@@ -0,0 +1,20 @@
+package com.demomodulish.payment;
+
+/**
+ * 게이트웨이로 전송된 승인 요청의 결과를 알 수 없을 때 발생합니다. (응답 전 연결 끊김, 게이트웨이 측 타임아웃 등)
+ * <p>
+ * 게이트웨이에서는 승인되었을 수 있으므로 결제 실패로 보상하지 않고, 같은 주문 ID로 다시 요청하여 결과를 확인합니다.
+ */
+class PaymentOutcomeUnknownException extends RuntimeException {
+
+    private final String orderId;
+
+    PaymentOutcomeUnknownException(String orderId, Throwable cause) {
+        super("결제 승인 결과를 확인할 수 없습니다: " + orderId, cause);
+        this.orderId = orderId;
+    }
+
+    String getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.demomodulish.payment;
+
+public record PaymentRequest(
+        String orderId,
+        long amount
+) {
+}
@@ -4,38 +4,135 @@ import com.demomodulish.common.InventoryVerifiedEvent;
 import com.demomodulish.common.PaymentCompletedEvent;
 import com.demomodulish.common.PaymentFailedEvent;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
 public class PaymentService {
 
     private final ApplicationEventPublisher events;
-    private final long testFailureAmount;
+    private final PaymentBatcher batcher;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final PaymentAttemptRepository attempts;
+    private final TransactionTemplate newTransaction;
 
-    public PaymentService(ApplicationEventPublisher events,
-                       @Value("${payment.test-failure-amount:9999}") long testFailureAmount) {
+    PaymentService(ApplicationEventPublisher events,
+                   PaymentBatcher batcher,
+                   PaymentCircuitBreaker circuitBreaker,
+                   PaymentAttemptRepository attempts,
+                   PlatformTransactionManager transactionManager) {
         this.events = events;
-        this.testFailureAmount = testFailureAmount;
+        this.batcher = batcher;
+        this.circuitBreaker = circuitBreaker;
+        this.attempts = attempts;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
+    /**
+     * 재고 확인이 끝난 주문의 결제를 승인합니다.
+     * <p>
+     * 동시에 도착한 승인 요청은 {@link PaymentBatcher}에서 하나의 게이트웨이 호출로 묶입니다.
+     * 리스너는 배치 결과를 기다렸다가 자신의 트랜잭션에서
+     * {@link PaymentCompletedEvent}/{@link PaymentFailedEvent}를 발행하므로, 결과 이벤트가 커밋된 뒤에야
+     * 이벤트 발행 기록이 완료되고 그 전에 중단되면 재처리 대상으로 남습니다.
+     * 커넥션은 첫 SQL 실행 시점에 획득하므로 결과를 기다리는 동안에는 커넥션을 점유하지 않습니다.
+     * 처리 기한이 지났거나 서킷이 열려 있거나 전송 전에 대기열 초과/타임아웃이 발생하면 {@link PaymentFailedEvent}로
+     * 기존 보상 트랜잭션 경로를 탑니다.
+     * <p>
+     * 승인은 주문 ID 기준으로 멱등입니다. 요청 전에 {@link PaymentAttempt}를 별도 트랜잭션으로 기록하고 결과가 나오면
+     * 확정하므로, 같은 주문이 재처리되면 확정된 결과 이벤트만 다시 발행합니다. 결과가 확정되지 않은 주문(게이트웨이로
+     * 전송된 뒤 오류가 났거나 처리 도중 중단된 주문)은 승인되었을 수 있으므로 보상하지 않고 예외를 던져 이벤트 발행 기록을
+     * 미완료로 남기며, 재처리 시 처리 기한과 관계없이 같은 주문 ID로 게이트웨이에 다시 확인합니다.
+     */
+    @Async("paymentExecutor")
     @ApplicationModuleListener
     public void on(InventoryVerifiedEvent event) {
-        if (event.totalAmount() == testFailureAmount) {
-            events.publishEvent(new PaymentFailedEvent(
-                    event.orderId(),
-                    String.format("결제 실패: %d원", event.totalAmount()),
-                    event.productId(),
-                    event.quantity(),
-                    event.deductedBatches()
-            ));
-            log.info("💸 [Payment] 결제 실패 -> 보상 트랜잭션 발동");
-        } else {
-            events.publishEvent(new PaymentCompletedEvent(event.orderId()));
+        Optional<PaymentAttempt> previous = newTransaction.execute(status -> attempts.findById(event.orderId()));
+        if (previous.isPresent() && previous.get().isDecided()) {
+            log.info("🔁 [Payment] 결제 결과가 확정된 주문 -> 결과 이벤트 재발행: {}", event.orderId());
+            publish(event, previous.get().toAuthorization());
+            return;
+        }
+        boolean resumed = previous.isPresent();
+
+        if (!resumed && event.isExpired(LocalDateTime.now())) {
+            publishFailure(event, "처리 기한 초과 (기한: %s)".formatted(event.deadline()));
+            return;
+        }
+
+        PaymentCircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        if (!permission.isPermitted()) {
+            if (resumed) {
+                throw new PaymentOutcomeUnknownException(event.orderId(),
+                        new IllegalStateException("결제 게이트웨이 차단 (Circuit Open)"));
+            }
+            publishFailure(event, "결제 게이트웨이 차단 (Circuit Open)");
+            return;
+        }
+
+        PaymentAuthorization authorization = null;
+        Throwable error = null;
+        try {
+            if (!resumed) {
+                newTransaction.executeWithoutResult(status ->
+                        attempts.save(new PaymentAttempt(event.orderId(), LocalDateTime.now())));
+            }
+            authorization = batcher.authorize(new PaymentRequest(event.orderId(), event.totalAmount())).join();
+        } catch (CompletionException | CancellationException e) {
+            error = e;
+        } finally {
+            circuitBreaker.releasePermission(permission);
+        }
+        handleResult(event, resumed, authorization, error);
+    }
+
+    private void handleResult(InventoryVerifiedEvent event, boolean resumed, PaymentAuthorization authorization, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (resumed || cause instanceof PaymentOutcomeUnknownException) {
+                // 이번 또는 이전 시도가 게이트웨이로 전송되었을 수 있으므로 실패로 확정하지 않는다
+                log.warn("⚠️ [Payment] 결제 승인 여부 미확인, 보상 보류 후 재처리 대기: {}", event.orderId());
+                throw cause instanceof PaymentOutcomeUnknownException unknown
+                        ? unknown
+                        : new PaymentOutcomeUnknownException(event.orderId(), cause);
+            }
+            authorization = PaymentAuthorization.declined(event.orderId(), "결제 게이트웨이 오류: " + cause.getClass().getSimpleName());
+        }
+
+        PaymentAuthorization decided = authorization;
+        newTransaction.executeWithoutResult(status -> attempts.findById(event.orderId())
+                .ifPresent(attempt -> attempt.decide(decided, LocalDateTime.now())));
+        publish(event, decided);
+    }
+
+    private void publish(InventoryVerifiedEvent event, PaymentAuthorization authorization) {
+        if (authorization.approved()) {
+            events.publishEvent(new PaymentCompletedEvent(event.orderId(), event.lines(), event.totalAmount()));
             log.info("💰 [Payment] 결제 성공: {}", event.orderId());
+        } else {
+            publishFailure(event, authorization.reason());
         }
     }
+
+    private void publishFailure(InventoryVerifiedEvent event, String reason) {
+        events.publishEvent(new PaymentFailedEvent(
+                event.orderId(),
+                reason,
+                event.lines(),
+                event.deductedBatches()
+        ));
+        log.info("💸 [Payment] 결제 실패 ({}) -> 보상 트랜잭션 발동", reason);
+    }
 }
@@ -0,0 +1,62 @@
+package com.demomodulish.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 개발/테스트용 인프로세스 결제 게이트웨이입니다.
+ * <p>
+ * 배치 호출마다 설정된 지연 시간을 주입하여 실제 네트워크 왕복을 흉내 내며,
+ * {@code payment.test-failure-amount}와 같은 금액의 결제는 거절합니다.
+ * {@code payment.gateway.stub.error-rate} 비율만큼 배치 호출 자체를 실패시켜 장애 상황을 재현할 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "stub", matchIfMissing = true)
+class StubPaymentGateway implements PaymentGateway {
+
+    private final long testFailureAmount;
+    private final Duration latency;
+    private final double errorRate;
+
+    StubPaymentGateway(@Value("${payment.test-failure-amount:9999}") long testFailureAmount,
+                       @Value("${payment.gateway.stub.latency:0ms}") Duration latency,
+                       @Value("${payment.gateway.stub.error-rate:0.0}") double errorRate) {
+        this.testFailureAmount = testFailureAmount;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public List<PaymentAuthorization> authorize(List<PaymentRequest> requests) {
+        simulateLatency();
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new IllegalStateException("결제 게이트웨이 오류 (stub)");
+        }
+        return requests.stream()
+                .map(this::authorize)
+                .toList();
+    }
+
+    private PaymentAuthorization authorize(PaymentRequest request) {
+        if (request.amount() == testFailureAmount) {
+            return PaymentAuthorization.declined(request.orderId(), String.format("결제 실패: %d원", request.amount()));
+        }
+        return PaymentAuthorization.approved(request.orderId());
+    }
+
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.demomodulish.reporting;
+
+/**
+ * 조회 구간 동안의 상품별 매출 합계입니다.
+ */
+public record ProductSales(
+        String productId,
+        long completedOrders,
+        long soldQuantity,
+        long revenue,
+        long failedOrders,
+        long failedQuantity
+) {
+}
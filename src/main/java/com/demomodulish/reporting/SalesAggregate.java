@@ -0,0 +1,53 @@
+package com.demomodulish.reporting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 상품/시간 구간별 매출 집계 행입니다.
+ * <p>
+ * 쓰기는 {@link SalesAggregateStore}가 JDBC 배치로 증분 반영하며, JPA로는 조회만 합니다.
+ */
+@Getter
+@Entity
+@Immutable
+@IdClass(SalesAggregate.Key.class)
+@Table(name = "sales_aggregate", indexes = @Index(name = "idx_sales_aggregate_bucket", columnList = "bucket_start"))
+class SalesAggregate {
+
+    @Id
+    @Column(name = "product_id")
+    private String productId;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    private long completedOrders;
+    private long soldQuantity;
+    private long revenue;
+    private long failedOrders;
+    private long failedQuantity;
+
+    protected SalesAggregate() {}
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Key implements Serializable {
+        private String productId;
+        private LocalDateTime bucketStart;
+    }
+}
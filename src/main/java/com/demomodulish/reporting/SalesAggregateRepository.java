@@ -0,0 +1,43 @@
+package com.demomodulish.reporting;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 집계 테이블만 읽으므로 조회 비용은 주문 수가 아닌 (상품 × 구간) 수에 비례합니다.
+ */
+interface SalesAggregateRepository extends Repository<SalesAggregate, SalesAggregate.Key> {
+
+    @Query("""
+            SELECT new com.demomodulish.reporting.ProductSales(a.productId,
+                SUM(a.completedOrders), SUM(a.soldQuantity), SUM(a.revenue), SUM(a.failedOrders), SUM(a.failedQuantity))
+            FROM SalesAggregate a
+            WHERE a.bucketStart >= :from AND a.bucketStart < :to
+            GROUP BY a.productId
+            ORDER BY SUM(a.revenue) DESC, a.productId ASC
+            """)
+    List<ProductSales> findTopProducts(LocalDateTime from, LocalDateTime to, Limit limit);
+
+    @Query("""
+            SELECT new com.demomodulish.reporting.SalesBucket(a.bucketStart,
+                SUM(a.completedOrders), SUM(a.soldQuantity), SUM(a.revenue), SUM(a.failedOrders), SUM(a.failedQuantity))
+            FROM SalesAggregate a
+            WHERE a.bucketStart >= :from AND a.bucketStart < :to
+            GROUP BY a.bucketStart
+            ORDER BY a.bucketStart ASC
+            """)
+    List<SalesBucket> findTimeline(LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT new com.demomodulish.reporting.SalesBucket(a.bucketStart,
+                a.completedOrders, a.soldQuantity, a.revenue, a.failedOrders, a.failedQuantity)
+            FROM SalesAggregate a
+            WHERE a.productId = :productId AND a.bucketStart >= :from AND a.bucketStart < :to
+            ORDER BY a.bucketStart ASC
+            """)
+    List<SalesBucket> findTimeline(String productId, LocalDateTime from, LocalDateTime to);
+}
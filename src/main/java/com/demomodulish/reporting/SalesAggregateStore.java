@@ -0,0 +1,85 @@
+package com.demomodulish.reporting;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 매출 집계 행을 JDBC 배치로 반영합니다.
+ */
+@Component
+class SalesAggregateStore {
+
+    private static final String INCREMENT = """
+            UPDATE sales_aggregate
+            SET completed_orders = completed_orders + ?, sold_quantity = sold_quantity + ?, revenue = revenue + ?,
+                failed_orders = failed_orders + ?, failed_quantity = failed_quantity + ?
+            WHERE product_id = ? AND bucket_start = ?
+            """;
+    private static final String INSERT = """
+            INSERT INTO sales_aggregate
+                (product_id, bucket_start, completed_orders, sold_quantity, revenue, failed_orders, failed_quantity)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String DELETE_RANGE = "DELETE FROM sales_aggregate WHERE bucket_start >= ? AND bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+
+    SalesAggregateStore(JdbcTemplate jdbcTemplate, TransactionOperations transactions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+    }
+
+    /**
+     * 증분을 한 트랜잭션으로 더합니다. 기존 행은 배치 UPDATE로 갱신하고, 갱신되지 않은 키만 배치 INSERT합니다.
+     */
+    void increment(Map<SalesKey, SalesDelta> deltas) {
+        List<Map.Entry<SalesKey, SalesDelta>> rows = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        transactions.executeWithoutResult(status -> {
+            int[] updated = jdbcTemplate.batchUpdate(INCREMENT, rows.stream()
+                    .map(row -> {
+                        SalesDelta delta = row.getValue();
+                        return new Object[]{delta.completedOrders(), delta.soldQuantity(), delta.revenue(),
+                                delta.failedOrders(), delta.failedQuantity(),
+                                row.getKey().productId(), row.getKey().bucketStart()};
+                    })
+                    .toList());
+
+            List<Object[]> inserts = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                if (updated[i] == 0) {
+                    inserts.add(insertArgs(rows.get(i)));
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, inserts);
+            }
+        });
+    }
+
+    /**
+     * [from, to) 구간의 집계 행을 주어진 합계로 교체합니다.
+     */
+    void replace(LocalDateTime from, LocalDateTime to, Map<SalesKey, SalesDelta> totals) {
+        transactions.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_RANGE, from, to);
+            jdbcTemplate.batchUpdate(INSERT, new TreeMap<>(totals).entrySet().stream()
+                    .map(SalesAggregateStore::insertArgs)
+                    .toList());
+        });
+    }
+
+    private static Object[] insertArgs(Map.Entry<SalesKey, SalesDelta> row) {
+        SalesDelta delta = row.getValue();
+        return new Object[]{row.getKey().productId(), row.getKey().bucketStart(),
+                delta.completedOrders(), delta.soldQuantity(), delta.revenue(),
+                delta.failedOrders(), delta.failedQuantity()};
+    }
+}
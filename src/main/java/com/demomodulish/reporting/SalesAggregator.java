@@ -0,0 +1,77 @@
+package com.demomodulish.reporting;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사가 결과 이벤트의 매출 증분을 메모리에 모았다가 주기적으로 한 번에 반영합니다.
+ * <p>
+ * 같은 (상품, 구간)의 증분은 버퍼에서 합쳐지므로, 이벤트가 많아도 반영 시 쓰는 행 수는 (상품 × 구간) 수로 제한됩니다.
+ * 반영에 실패한 증분은 버퍼로 되돌려 다음 주기에 다시 반영합니다.
+ * 버퍼는 종료 시 반영하지만 비정상 종료 시에는 최대 한 주기의 증분을 잃을 수 있으며, 이는 {@link SalesRebuilder}로 복구합니다.
+ */
+@Slf4j
+@Component
+class SalesAggregator {
+
+    private final SalesAggregateStore store;
+    private final SalesProperties properties;
+    private final ConcurrentHashMap<SalesKey, SalesDelta> buffer = new ConcurrentHashMap<>();
+
+    SalesAggregator(SalesAggregateStore store, SalesProperties properties) {
+        this.store = store;
+        this.properties = properties;
+    }
+
+    /**
+     * 상품별 증분을 발생 시각이 속한 구간에 더합니다.
+     */
+    void record(LocalDateTime occurredAt, Map<String, SalesDelta> deltas) {
+        LocalDateTime bucketStart = occurredAt.truncatedTo(properties.bucket());
+        deltas.forEach((productId, delta) -> buffer.merge(new SalesKey(productId, bucketStart), delta, SalesDelta::plus));
+
+        if (buffer.size() >= properties.maxBufferedKeys()) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reporting.sales.flush-interval-millis:5000}")
+    synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼내므로 반영 중에 들어온 증분은 버퍼에 남아 다음 주기에 반영됨
+        Map<SalesKey, SalesDelta> drained = new HashMap<>();
+        for (SalesKey key : buffer.keySet()) {
+            SalesDelta delta = buffer.remove(key);
+            if (delta != null) {
+                drained.put(key, delta);
+            }
+        }
+
+        try {
+            store.increment(drained);
+        } catch (DataAccessException e) {
+            drained.forEach((key, delta) -> buffer.merge(key, delta, SalesDelta::plus));
+            log.warn("⚠️ [Reporting] 매출 집계 반영 실패, 다음 주기에 재시도 ({}건): {}", drained.size(), e.getMessage());
+        }
+    }
+
+    int bufferedKeys() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,16 @@
+package com.demomodulish.reporting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간별 매출 합계입니다.
+ */
+public record SalesBucket(
+        LocalDateTime bucketStart,
+        long completedOrders,
+        long soldQuantity,
+        long revenue,
+        long failedOrders,
+        long failedQuantity
+) {
+}
@@ -0,0 +1,63 @@
+package com.demomodulish.reporting;
+
+import com.demomodulish.common.LineItem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 (상품, 구간) 집계 행에 더할 증분입니다.
+ *
+ * @param completedOrders 결제가 완료된 주문 수
+ * @param soldQuantity    결제가 완료된 수량
+ * @param revenue         결제가 완료된 금액
+ * @param failedOrders    재고 부족/결제 실패/취소로 판매되지 못한 주문 수
+ * @param failedQuantity  판매되지 못한 수량
+ */
+record SalesDelta(
+        long completedOrders,
+        long soldQuantity,
+        long revenue,
+        long failedOrders,
+        long failedQuantity
+) {
+    SalesDelta plus(SalesDelta other) {
+        return new SalesDelta(
+                completedOrders + other.completedOrders,
+                soldQuantity + other.soldQuantity,
+                revenue + other.revenue,
+                failedOrders + other.failedOrders,
+                failedQuantity + other.failedQuantity);
+    }
+
+    /**
+     * 종료된 주문 하나의 상품별 증분입니다. 확정 주문은 판매, 취소 주문은 판매 실패로 셉니다.
+     */
+    static Map<String, SalesDelta> finished(boolean completed, List<LineItem> lines) {
+        return completed ? completed(lines) : failed(lines);
+    }
+
+    /**
+     * 결제가 완료된 주문 품목의 상품별 증분입니다. 한 주문에 같은 상품이 여러 줄이어도 주문 수는 1로 셉니다.
+     */
+    static Map<String, SalesDelta> completed(List<LineItem> lines) {
+        return lines.stream().collect(Collectors.groupingBy(LineItem::productId, Collectors.collectingAndThen(
+                Collectors.toList(),
+                productLines -> new SalesDelta(1, quantity(productLines),
+                        productLines.stream().mapToLong(LineItem::amount).sum(), 0, 0))));
+    }
+
+    /**
+     * 판매되지 못한 주문 품목의 상품별 증분입니다.
+     */
+    static Map<String, SalesDelta> failed(List<LineItem> lines) {
+        return lines.stream().collect(Collectors.groupingBy(LineItem::productId, Collectors.collectingAndThen(
+                Collectors.toList(),
+                productLines -> new SalesDelta(0, 0, 0, 1, quantity(productLines)))));
+    }
+
+    private static long quantity(List<LineItem> lines) {
+        return lines.stream().mapToLong(LineItem::quantity).sum();
+    }
+}
@@ -0,0 +1,29 @@
+package com.demomodulish.reporting;
+
+import com.demomodulish.common.OrderFinishedEvent;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 종료 이벤트를 매출 증분으로 바꿔 {@link SalesAggregator}에 전달합니다.
+ * 데이터베이스에 직접 쓰지 않으므로 주문/결제 처리와 커넥션을 다투지 않습니다.
+ * <p>
+ * 결제/재고 이벤트가 아니라 주문의 최종 상태 전이를 집계하므로, 주문 하나는 최종 상태에 따라 판매 또는 판매 실패로
+ * 한 번만 집계되고, 전이 시각이 속한 구간에 더해집니다. 재계산({@link SalesRebuilder})과 같은 기준입니다.
+ */
+@Component
+class SalesEventListener {
+
+    private final SalesAggregator aggregator;
+
+    SalesEventListener(SalesAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @Async("reportingExecutor")
+    @ApplicationModuleListener
+    public void on(OrderFinishedEvent event) {
+        aggregator.record(event.finishedAt(), SalesDelta.finished(event.completed(), event.lines()));
+    }
+}
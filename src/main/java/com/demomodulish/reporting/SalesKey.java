@@ -0,0 +1,19 @@
+package com.demomodulish.reporting;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 집계 행의 키 (상품, 구간 시작 시각)입니다.
+ * 반영 시 키 순서로 행을 갱신하여 여러 인스턴스가 동시에 반영해도 교착 상태가 생기지 않게 합니다.
+ */
+record SalesKey(String productId, LocalDateTime bucketStart) implements Comparable<SalesKey> {
+
+    private static final Comparator<SalesKey> ORDER = Comparator.comparing(SalesKey::productId)
+            .thenComparing(SalesKey::bucketStart);
+
+    @Override
+    public int compareTo(SalesKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,26 @@
+package com.demomodulish.reporting;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 매출 집계 설정입니다. 버퍼 반영 주기는 {@code reporting.sales.flush-interval-millis}로 지정합니다.
+ *
+ * @param bucket          집계 시간 구간 단위 (DAYS 이하)
+ * @param maxBufferedKeys 메모리 버퍼의 (상품, 구간) 항목이 이 수에 도달하면 주기를 기다리지 않고 반영
+ * @param rebuildPageSize 재계산 시 한 번에 읽는 주문 수
+ */
+@ConfigurationProperties("reporting.sales")
+record SalesProperties(
+        @DefaultValue("hours") ChronoUnit bucket,
+        @DefaultValue("10000") int maxBufferedKeys,
+        @DefaultValue("500") int rebuildPageSize
+) {
+    SalesProperties {
+        if (bucket.compareTo(ChronoUnit.DAYS) > 0) {
+            throw new IllegalArgumentException("reporting.sales.bucket은 DAYS 이하 단위여야 합니다: " + bucket);
+        }
+    }
+}
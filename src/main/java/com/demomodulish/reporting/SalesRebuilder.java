@@ -0,0 +1,70 @@
+package com.demomodulish.reporting;
+
+import com.demomodulish.order.OrderLookup;
+import com.demomodulish.order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주문 이력(운영 + 보관 테이블)으로 매출 집계를 다시 계산합니다.
+ * <p>
+ * 집계 로직이 바뀌었거나 비정상 종료로 버퍼의 증분을 잃은 경우에 사용합니다. 종료된 주문은 마지막 상태 전이 시각이 속한
+ * 구간에 집계하며, COMPLETED는 판매, CANCELLED는 판매 실패로 셉니다. 증분 집계({@link SalesEventListener})와 같은 기준입니다.
+ */
+@Slf4j
+@Component
+class SalesRebuilder {
+
+    private final OrderLookup orderLookup;
+    private final SalesAggregator aggregator;
+    private final SalesAggregateStore store;
+    private final SalesProperties properties;
+
+    SalesRebuilder(OrderLookup orderLookup, SalesAggregator aggregator, SalesAggregateStore store,
+                   SalesProperties properties) {
+        this.orderLookup = orderLookup;
+        this.aggregator = aggregator;
+        this.store = store;
+        this.properties = properties;
+    }
+
+    /**
+     * [from, to) 구간의 집계를 다시 계산하여 교체합니다. 경계는 구간 단위로 내림합니다.
+     * 아직 이벤트가 집계되고 있는 현재 구간은 다시 계산할 수 없습니다.
+     *
+     * @return 다시 계산한 (상품, 구간) 행 수
+     */
+    int rebuild(LocalDateTime from, LocalDateTime to) {
+        ChronoUnit bucket = properties.bucket();
+        LocalDateTime start = from.truncatedTo(bucket);
+        LocalDateTime end = to.truncatedTo(bucket);
+        LocalDateTime currentBucket = LocalDateTime.now().truncatedTo(bucket);
+        if (end.isAfter(currentBucket)) {
+            throw new IllegalArgumentException("진행 중인 구간(" + currentBucket + ") 이후는 다시 계산할 수 없습니다.");
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("재계산 구간이 비어 있습니다: " + start + " ~ " + end);
+        }
+
+        // 늦게 도착해 버퍼에 남은 지난 구간의 증분이 재계산 결과를 덮어쓰지 않도록 먼저 반영
+        aggregator.flush();
+
+        Map<SalesKey, SalesDelta> totals = new HashMap<>();
+        orderLookup.forEachFinished(start, end, properties.rebuildPageSize(), page -> page.forEach(order -> {
+            LocalDateTime bucketStart = order.updatedAt().truncatedTo(bucket);
+            Map<String, SalesDelta> deltas =
+                    SalesDelta.finished(order.status() == OrderStatus.COMPLETED, order.lines());
+            deltas.forEach((productId, delta) ->
+                    totals.merge(new SalesKey(productId, bucketStart), delta, SalesDelta::plus));
+        }));
+
+        store.replace(start, end, totals);
+        log.info("📊 [Reporting] 매출 집계 재계산 완료: {} ~ {} ({}행)", start, end, totals.size());
+        return totals.size();
+    }
+}
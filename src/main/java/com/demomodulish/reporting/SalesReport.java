@@ -0,0 +1,45 @@
+package com.demomodulish.reporting;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매출 집계 조회 API입니다. 구간은 [from, to)이며 집계 구간 시작 시각 기준입니다.
+ * <p>
+ * 반영 주기({@code reporting.sales.flush-interval-millis})만큼 늦게 반영된 값을 반환합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SalesReport {
+
+    private final SalesAggregateRepository aggregates;
+
+    SalesReport(SalesAggregateRepository aggregates) {
+        this.aggregates = aggregates;
+    }
+
+    /**
+     * 매출 금액이 큰 순으로 상품별 합계를 반환합니다.
+     */
+    public List<ProductSales> topProducts(LocalDateTime from, LocalDateTime to, int limit) {
+        return aggregates.findTopProducts(from, to, Limit.of(limit));
+    }
+
+    /**
+     * 전체 상품의 구간별 합계를 반환합니다.
+     */
+    public List<SalesBucket> timeline(LocalDateTime from, LocalDateTime to) {
+        return aggregates.findTimeline(from, to);
+    }
+
+    /**
+     * 한 상품의 구간별 합계를 반환합니다.
+     */
+    public List<SalesBucket> timeline(String productId, LocalDateTime from, LocalDateTime to) {
+        return aggregates.findTimeline(productId, from, to);
+    }
+}
@@ -0,0 +1,58 @@
+package com.demomodulish.reporting;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reports/sales")
+class SalesReportController {
+
+    private final SalesReport salesReport;
+    private final SalesRebuilder salesRebuilder;
+
+    SalesReportController(SalesReport salesReport, SalesRebuilder salesRebuilder) {
+        this.salesReport = salesReport;
+        this.salesRebuilder = salesRebuilder;
+    }
+
+    @GetMapping("/products")
+    public List<ProductSales> topProducts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                          @RequestParam(defaultValue = "10") int limit) {
+        return salesReport.topProducts(from, to, limit);
+    }
+
+    @GetMapping("/timeline")
+    public List<SalesBucket> timeline(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                      @RequestParam(required = false) String productId) {
+        return productId == null
+                ? salesReport.timeline(from, to)
+                : salesReport.timeline(productId, from, to);
+    }
+
+    /**
+     * 주문 이력으로 [from, to) 구간의 집계를 다시 계산합니다.
+     */
+    @PostMapping("/rebuild")
+    public RebuildResponse rebuild(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return new RebuildResponse(salesRebuilder.rebuild(from, to));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    ResponseEntity<String> handleInvalidRange(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    record RebuildResponse(int rows) {}
+}
@@ -0,0 +1,164 @@
+-- 운영 스키마 (PostgreSQL)
+-- startup 프로파일은 ddl-auto=validate로 이 스키마를 검증만 하므로, 엔티티를 변경하면 이 파일도 함께 변경합니다.
+-- docker-compose는 새 볼륨을 초기화할 때 이 디렉터리의 스크립트를 실행합니다.
+-- 모든 문장은 반복 실행해도 안전하므로, 기존 볼륨은 이 파일을 다시 실행해 최신 스키마로 올립니다. (README 참고)
+-- 기존 테이블에 컬럼을 추가할 때는 CREATE TABLE과 함께 ALTER TABLE ... ADD COLUMN IF NOT EXISTS도 추가합니다.
+
+CREATE TABLE IF NOT EXISTS orders (
+    id            VARCHAR(255) NOT NULL,
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    resubmissions INTEGER DEFAULT 0 NOT NULL,
+    deadline      TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS resubmissions INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS deadline TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_orders_status_updated_at ON orders (status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_orders_status_id ON orders (status, id);
+
+CREATE TABLE IF NOT EXISTS order_lines (
+    order_id   VARCHAR(255) NOT NULL REFERENCES orders (id),
+    line_no    INTEGER      NOT NULL,
+    product_id VARCHAR(255),
+    quantity   INTEGER      NOT NULL,
+    price      BIGINT       NOT NULL,
+    PRIMARY KEY (order_id, line_no)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_lines_product_order ON order_lines (product_id, order_id);
+
+-- 단일 품목 시절의 orders(product_id, quantity, price)를 order_lines로 옮기고 컬럼을 제거합니다.
+-- (ddl-auto=update는 컬럼을 지우지 않으므로, 남아 있으면 NOT NULL 제약 때문에 새 주문 INSERT가 실패합니다.)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'orders' AND column_name = 'product_id') THEN
+        INSERT INTO order_lines (order_id, line_no, product_id, quantity, price)
+        SELECT o.id, 0, o.product_id, o.quantity, o.price
+        FROM orders o
+        WHERE NOT EXISTS (SELECT 1 FROM order_lines l WHERE l.order_id = o.id);
+    END IF;
+END $$;
+
+ALTER TABLE orders DROP COLUMN IF EXISTS product_id;
+ALTER TABLE orders DROP COLUMN IF EXISTS quantity;
+ALTER TABLE orders DROP COLUMN IF EXISTS price;
+
+-- 시각 컬럼이 없던 시절의 주문은 멈춘 주문 정리(status, updated_at) 대상이 되도록 마이그레이션 시각으로 채웁니다.
+UPDATE orders SET created_at = COALESCE(created_at, now()), updated_at = now() WHERE updated_at IS NULL;
+
+-- 종료 주문 보관 테이블: updated_at 기준 월별 파티션 (월별 파티션은 애플리케이션이 미리 생성)
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id          VARCHAR(255) NOT NULL,
+    status      VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6),
+    PRIMARY KEY (id, updated_at)
+) PARTITION BY RANGE (updated_at);
+
+CREATE TABLE IF NOT EXISTS orders_archive_default PARTITION OF orders_archive DEFAULT;
+
+CREATE TABLE IF NOT EXISTS orders_archive_lines (
+    order_id   VARCHAR(255) NOT NULL,
+    line_no    INTEGER      NOT NULL,
+    product_id VARCHAR(255),
+    quantity   INTEGER      NOT NULL,
+    price      BIGINT       NOT NULL,
+    PRIMARY KEY (order_id, line_no)
+);
+
+CREATE TABLE IF NOT EXISTS product (
+    id      VARCHAR(255) NOT NULL,
+    name    VARCHAR(255),
+    price   BIGINT       NOT NULL,
+    version BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 가격 카탈로그 도입 전에 주문된 상품을 가장 최근 주문 가격으로 등록 (이미 등록된 상품은 그대로 둠)
+INSERT INTO product (id, name, price, version)
+SELECT DISTINCT ON (l.product_id) l.product_id, l.product_id, l.price, 0
+FROM (
+    SELECT ol.product_id, ol.price, o.created_at
+    FROM order_lines ol JOIN orders o ON o.id = ol.order_id
+    UNION ALL
+    SELECT al.product_id, al.price, a.created_at
+    FROM orders_archive_lines al JOIN orders_archive a ON a.id = al.order_id
+) l
+WHERE l.product_id IS NOT NULL
+ORDER BY l.product_id, l.created_at DESC NULLS LAST
+ON CONFLICT (id) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS inventory_item (
+    id              VARCHAR(255) NOT NULL,
+    product_id      VARCHAR(255),
+    quantity        INTEGER      NOT NULL,
+    expiration_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_product ON inventory_item (product_id, expiration_date);
+
+CREATE TABLE IF NOT EXISTS inventory_transaction (
+    order_id     VARCHAR(255) NOT NULL,
+    processed_at TIMESTAMP(6),
+    restored     BOOLEAN DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (order_id)
+);
+
+ALTER TABLE inventory_transaction ADD COLUMN IF NOT EXISTS restored BOOLEAN DEFAULT FALSE NOT NULL;
+
+CREATE TABLE IF NOT EXISTS inventory_transaction_batches (
+    order_id VARCHAR(255) NOT NULL REFERENCES inventory_transaction (order_id),
+    batch_id VARCHAR(255) NOT NULL,
+    quantity INTEGER,
+    PRIMARY KEY (order_id, batch_id)
+);
+
+-- 주문별 결제 승인 시도 (payment 모듈의 멱등성 기준, outcome이 NULL이면 결과 미확정)
+CREATE TABLE IF NOT EXISTS payment_attempt (
+    order_id     VARCHAR(255) NOT NULL,
+    requested_at TIMESTAMP(6),
+    outcome      VARCHAR(255),
+    reason       VARCHAR(255),
+    decided_at   TIMESTAMP(6),
+    PRIMARY KEY (order_id)
+);
+
+-- 상품/시간 구간별 매출 집계 (reporting 모듈이 증분 반영)
+CREATE TABLE IF NOT EXISTS sales_aggregate (
+    product_id       VARCHAR(255) NOT NULL,
+    bucket_start     TIMESTAMP(6) NOT NULL,
+    completed_orders BIGINT       NOT NULL,
+    sold_quantity    BIGINT       NOT NULL,
+    revenue          BIGINT       NOT NULL,
+    failed_orders    BIGINT       NOT NULL,
+    failed_quantity  BIGINT       NOT NULL,
+    PRIMARY KEY (product_id, bucket_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_sales_aggregate_bucket ON sales_aggregate (bucket_start);
+
+-- Spring Modulith Event Publication Registry
+CREATE TABLE IF NOT EXISTS event_publication (
+    id                     UUID                     NOT NULL,
+    listener_id            TEXT                     NOT NULL,
+    event_type             TEXT                     NOT NULL,
+    serialized_event       TEXT                     NOT NULL,
+    publication_date       TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date        TIMESTAMP WITH TIME ZONE,
+    status                 TEXT,
+    completion_attempts    INT,
+    last_resubmission_date TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+
+-- 승인 제어가 매초 미완료 발행(completion_date IS NULL)의 최근 구간을 조회
+CREATE INDEX IF NOT EXISTS idx_event_publication_completion ON event_publication (completion_date, publication_date);
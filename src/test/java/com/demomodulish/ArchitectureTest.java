@@ -22,9 +22,11 @@ class ArchitectureTest {
                 .anyMatch(module -> module.getIdentifier().toString().equals("order"));
         boolean hasInventory = modules.stream()
                 .anyMatch(module -> module.getIdentifier().toString().equals("inventory"));
+        boolean hasCatalog = modules.stream()
+                .anyMatch(module -> module.getIdentifier().toString().equals("catalog"));
 
-        if (!hasOrder || !hasInventory) {
-            throw new AssertionError("❌ 필수 모듈(order, inventory)이 아직 생성되지 않았습니다!");
+        if (!hasOrder || !hasInventory || !hasCatalog) {
+            throw new AssertionError("❌ 필수 모듈(order, inventory, catalog)이 아직 생성되지 않았습니다!");
         }
     }
 }
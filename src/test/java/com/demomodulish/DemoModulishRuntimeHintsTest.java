@@ -0,0 +1,35 @@
+package com.demomodulish;
+
+import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCompletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DisplayName("DemoModulishRuntimeHints 단위 테스트")
+class DemoModulishRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("이벤트 레코드의 직렬화용 리플렉션 힌트를 등록한다")
+    void registersBindingHintsForEvents() {
+        new DemoModulishRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(OrderCompletedEvent.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(InventoryVerifiedEvent.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(LineItem.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("힌트에 등록한 리스너 클래스가 실제로 존재한다")
+    void listenerTypesExist() {
+        DemoModulishRuntimeHints.LISTENER_TYPES.forEach(listenerType ->
+                assertThatCode(() -> Class.forName(listenerType)).doesNotThrowAnyException());
+    }
+}
@@ -0,0 +1,90 @@
+package com.demomodulish;
+
+import com.demomodulish.order.Order;
+import com.demomodulish.order.OrderManagement;
+import com.demomodulish.order.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 한 모듈의 커넥션 풀과 실행기가 고갈되어도 다른 모듈이 영향을 받지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "modules.resources.groups.inventory.pool-size=2",
+        "modules.resources.groups.inventory.executor-threads=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ModuleIsolationTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("inventoryExecutor")
+    private ThreadPoolTaskExecutor inventoryExecutor;
+
+    @Autowired
+    @Qualifier("orderPriorityExecutor")
+    private ThreadPoolTaskExecutor orderPriorityExecutor;
+
+    @Autowired
+    private OrderManagement orderManagement;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void stalledInventoryModuleDoesNotStarveOrderIntake() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // inventory 실행기의 모든 스레드가 inventory 커넥션을 붙잡은 채 멈춘다
+        for (int i = 0; i < 2; i++) {
+            inventoryExecutor.execute(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    // 실제 커넥션은 첫 SQL 실행 시점에 획득된다
+                    connection.createStatement().execute("SELECT 1");
+                    stalled.countDown();
+                    release.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        try {
+            assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.get("modules.datasource.connections.active")
+                    .tag("module", "inventory").gauge().value()).isEqualTo(2);
+
+            // inventory 풀이 고갈되어도 주문 접수는 order 풀로 바로 처리된다
+            var order = new Order("ISOLATION-1", 1, 1000L);
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> orderManagement.place(order));
+            assertThat(orderRepository.findById(order.getId())).isPresent();
+
+            // order 실행기도 지연 없이 작업을 실행한다
+            CountDownLatch orderTaskRan = new CountDownLatch(1);
+            orderPriorityExecutor.execute(orderTaskRan::countDown);
+            assertThat(orderTaskRan.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+}
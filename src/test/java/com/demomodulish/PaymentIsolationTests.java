@@ -0,0 +1,121 @@
+package com.demomodulish;
+
+import com.demomodulish.inventory.InventoryItem;
+import com.demomodulish.inventory.InventoryRepository;
+import com.demomodulish.order.Order;
+import com.demomodulish.order.OrderManagement;
+import com.demomodulish.order.OrderRepository;
+import com.demomodulish.order.OrderStatus;
+import com.demomodulish.payment.PaymentAuthorization;
+import com.demomodulish.payment.PaymentGateway;
+import com.demomodulish.payment.PaymentRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 결제 게이트웨이가 느려져도 다른 모듈의 리스너가 영향을 받지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "payment.gateway.timeout=300ms",
+        "payment.batch.max-in-flight=1"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PaymentIsolationTests {
+
+    private static final Duration GATEWAY_LATENCY = Duration.ofSeconds(3);
+
+    @Autowired
+    private OrderManagement orderManagement;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private RecordingGateway gateway;
+
+    @Test
+    void slowPaymentGatewayDoesNotStallOtherModules() throws InterruptedException {
+        inventoryRepository.save(new InventoryItem("ISOLATION-1", 100, LocalDateTime.now().plusDays(1)));
+        inventoryRepository.save(new InventoryItem("ISOLATION-2", 1, LocalDateTime.now().plusDays(1)));
+
+        var payableOrders = IntStream.range(0, 20)
+                .mapToObj(i -> new Order("ISOLATION-1", 1, 1000L))
+                .toList();
+        payableOrders.forEach(orderManagement::place);
+        var outOfStockOrder = new Order("ISOLATION-2", 5, 1000L);
+        orderManagement.place(outOfStockOrder);
+
+        // 결제 응답을 기다리는 동안에도 재고/주문 리스너는 지연 없이 처리된다
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                assertThat(statusOf(outOfStockOrder)).isEqualTo(OrderStatus.CANCELLED));
+
+        // 전송 한도가 1이므로 첫 배치만 게이트웨이로 전송되고, 나머지는 대기열에서 타임아웃된다
+        await().atMost(Duration.ofSeconds(5)).until(() -> !gateway.batches().isEmpty());
+        List<String> sentOrderIds = gateway.batches().getFirst();
+
+        // 전송된 주문은 타임아웃을 넘겨도 게이트웨이의 늦은 승인으로 완료되고,
+        // 대기열에서 타임아웃 또는 서킷 차단된 주문만 기존 보상 경로로 취소되어 재고가 복구된다
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(payableOrders).allSatisfy(order ->
+                    assertThat(statusOf(order)).isEqualTo(sentOrderIds.contains(order.getId())
+                            ? OrderStatus.COMPLETED
+                            : OrderStatus.CANCELLED));
+            var totalStock = inventoryRepository.findAllByProductId("ISOLATION-1").stream()
+                    .mapToInt(InventoryItem::getQuantity)
+                    .sum();
+            assertThat(totalStock).isEqualTo(100 - sentOrderIds.size());
+        });
+
+        // 대기열에서 타임아웃되어 취소된 주문은 게이트웨이로 보내지 않는다
+        Thread.sleep(GATEWAY_LATENCY.toMillis());
+        assertThat(gateway.batches()).hasSize(1);
+    }
+
+    private OrderStatus statusOf(Order order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getStatus();
+    }
+
+    /**
+     * 응답이 느린 게이트웨이입니다. 전달받은 배치(주문 ID 목록)를 기록합니다.
+     */
+    record RecordingGateway(List<List<String>> batches) implements PaymentGateway {
+
+        @Override
+        public List<PaymentAuthorization> authorize(List<PaymentRequest> requests) {
+            batches.add(requests.stream().map(PaymentRequest::orderId).toList());
+            try {
+                Thread.sleep(GATEWAY_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return requests.stream().map(request -> PaymentAuthorization.approved(request.orderId())).toList();
+        }
+    }
+
+    @TestConfiguration
+    static class GatewayConfiguration {
+
+        @Bean
+        @Primary
+        RecordingGateway recordingGateway() {
+            return new RecordingGateway(new CopyOnWriteArrayList<>());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.demomodulish;
 import com.demomodulish.inventory.InventoryItem;
 import com.demomodulish.inventory.InventoryRepository;
 import com.demomodulish.order.Order;
+import com.demomodulish.order.OrderLine;
 import com.demomodulish.order.OrderManagement;
 import com.demomodulish.order.OrderRepository;
 import com.demomodulish.order.OrderStatus;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -93,4 +95,46 @@ class SystemIntegrationTests {
             assertThat(totalStock).isEqualTo(10);
         });
     }
+
+    @Test
+    void completesMultiLineOrderInSingleSaga() {
+        inventoryRepository.save(new InventoryItem("PRODUCT-5", 10, LocalDateTime.now().plusDays(1)));
+        inventoryRepository.save(new InventoryItem("PRODUCT-6", 10, LocalDateTime.now().plusDays(1)));
+        var order = new Order(List.of(
+                new OrderLine("PRODUCT-6", 4, 500L),
+                new OrderLine("PRODUCT-5", 2, 1000L)
+        ));
+        orderManagement.place(order);
+
+        await().untilAsserted(() -> {
+            var completedOrder = orderRepository.findById(order.getId()).orElseThrow();
+            assertThat(completedOrder.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            assertThat(totalStock("PRODUCT-5")).isEqualTo(8);
+            assertThat(totalStock("PRODUCT-6")).isEqualTo(6);
+        });
+    }
+
+    @Test
+    void cancelsWholeMultiLineOrderIfAnyLineIsShort() {
+        inventoryRepository.save(new InventoryItem("PRODUCT-7", 10, LocalDateTime.now().plusDays(1)));
+        inventoryRepository.save(new InventoryItem("PRODUCT-8", 1, LocalDateTime.now().plusDays(1)));
+        var order = new Order(List.of(
+                new OrderLine("PRODUCT-7", 3, 1000L),
+                new OrderLine("PRODUCT-8", 2, 1000L)
+        ));
+        orderManagement.place(order);
+
+        await().untilAsserted(() -> {
+            var cancelledOrder = orderRepository.findById(order.getId()).orElseThrow();
+            assertThat(cancelledOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(totalStock("PRODUCT-7")).isEqualTo(10);
+            assertThat(totalStock("PRODUCT-8")).isEqualTo(1);
+        });
+    }
+
+    private int totalStock(String productId) {
+        return inventoryRepository.findAllByProductId(productId).stream()
+                .mapToInt(InventoryItem::getQuantity)
+                .sum();
+    }
 }
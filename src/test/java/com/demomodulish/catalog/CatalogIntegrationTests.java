@@ -0,0 +1,47 @@
+package com.demomodulish.catalog;
+
+import com.demomodulish.common.ProductPriceChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.AssertablePublishedEvents;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ApplicationModuleTest(extraIncludes = "infrastructure")
+class CatalogIntegrationTests {
+
+    @Autowired
+    CatalogManagement catalogManagement;
+
+    @Autowired
+    PriceCatalog priceCatalog;
+
+    /**
+     * 가격 변경이 커밋되면 캐시된 가격이 만료를 기다리지 않고 바로 새 가격으로 바뀌는지 검증합니다.
+     */
+    @Test
+    void priceChangeReplacesCachedPrice(AssertablePublishedEvents events) {
+        catalogManagement.save("CATALOG-1", "사과", 1000);
+        assertThat(priceCatalog.pricesOf(List.of("CATALOG-1"))).containsEntry("CATALOG-1", 1000L);
+
+        catalogManagement.save("CATALOG-1", "사과", 1200);
+
+        assertThat(priceCatalog.pricesOf(List.of("CATALOG-1"))).containsEntry("CATALOG-1", 1200L);
+        events.assertThat()
+                .contains(ProductPriceChangedEvent.class)
+                .matching(ProductPriceChangedEvent::price, 1200L);
+    }
+
+    @Test
+    void rejectsUnknownProduct() {
+        catalogManagement.save("CATALOG-2", "배", 500);
+
+        assertThatThrownBy(() -> priceCatalog.pricesOf(List.of("CATALOG-2", "UNKNOWN")))
+                .isInstanceOf(UnknownProductException.class)
+                .satisfies(e -> assertThat(((UnknownProductException) e).getProductIds()).containsExactly("UNKNOWN"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.demomodulish.catalog;
+
+import com.demomodulish.common.ProductPriceChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PriceCache 단위 테스트")
+class PriceCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private ProductRepository products;
+    private PriceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        products = mock(ProductRepository.class);
+        var properties = new PriceCacheProperties(2, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(5));
+        cache = new PriceCache(products, refreshTasks::add, properties, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("처음 조회한 가격만 데이터베이스에서 적재하고 이후에는 캐시에서 반환한다")
+    void loadsOnceAndServesFromCache() {
+        when(products.findPrices(List.of("P-1"))).thenReturn(List.of(new ProductPrice("P-1", 1000, 0)));
+
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1000L);
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1000L);
+
+        verify(products, times(1)).findPrices(anyCollection());
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지난 가격은 즉시 반환하고 백그라운드에서 한 번만 다시 적재한다")
+    void refreshesAheadInBackground() {
+        when(products.findPrices(List.of("P-1")))
+                .thenReturn(List.of(new ProductPrice("P-1", 1000, 0)))
+                .thenReturn(List.of(new ProductPrice("P-1", 1200, 1)));
+        cache.getAll(List.of("P-1"));
+
+        nanoTime.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1000L);
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1000L);
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.getFirst().run();
+
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1200L);
+        verify(products, times(2)).findPrices(anyCollection());
+    }
+
+    @Test
+    @DisplayName("만료된 가격은 조회 시점에 다시 적재한다")
+    void reloadsExpiredPrice() {
+        when(products.findPrices(List.of("P-1")))
+                .thenReturn(List.of(new ProductPrice("P-1", 1000, 0)))
+                .thenReturn(List.of(new ProductPrice("P-1", 900, 1)));
+        cache.getAll(List.of("P-1"));
+
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 900L);
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 변경 이벤트로 교체된 가격은 늦게 도착한 이전 버전 적재 결과로 덮어쓰지 않는다")
+    void ignoresOlderVersionAfterEvent() {
+        when(products.findPrices(List.of("P-1")))
+                .thenReturn(List.of(new ProductPrice("P-1", 1000, 0)))
+                .thenReturn(List.of(new ProductPrice("P-1", 1000, 0)));
+        cache.getAll(List.of("P-1"));
+
+        nanoTime.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.getAll(List.of("P-1"));
+        cache.on(new ProductPriceChangedEvent("P-1", 1500, 1));
+        refreshTasks.getFirst().run();
+
+        assertThat(cache.getAll(List.of("P-1"))).containsEntry("P-1", 1500L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 상품부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        when(products.findPrices(any())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(productId -> new ProductPrice(productId, 100, 0))
+                .toList());
+        cache.getAll(List.of("P-1"));
+        cache.getAll(List.of("P-2"));
+        cache.getAll(List.of("P-1"));
+
+        cache.getAll(List.of("P-3"));
+        cache.getAll(List.of("P-1", "P-3"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(products, times(3)).findPrices(anyCollection());
+        cache.getAll(List.of("P-2"));
+        verify(products, times(4)).findPrices(anyCollection());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 결과에 포함하지 않는다")
+    void omitsUnknownProducts() {
+        when(products.findPrices(List.of("P-1", "NONE"))).thenReturn(List.of(new ProductPrice("P-1", 1000, 0)));
+
+        assertThat(cache.getAll(List.of("P-1", "NONE"))).containsOnlyKeys("P-1");
+    }
+
+    @Test
+    @DisplayName("미등록 상품은 잠시 기억하여 다시 조회하지 않고, 기간이 지나면 다시 확인한다")
+    void remembersUnknownProductsBriefly() {
+        when(products.findPrices(any())).thenReturn(List.of());
+
+        assertThat(cache.getAll(List.of("NONE"))).isEmpty();
+        assertThat(cache.getAll(List.of("NONE"))).isEmpty();
+        verify(products, times(1)).findPrices(anyCollection());
+
+        nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.getAll(List.of("NONE"))).isEmpty();
+        verify(products, times(2)).findPrices(anyCollection());
+    }
+
+    @Test
+    @DisplayName("미등록으로 기억한 상품도 등록(가격 변경) 이벤트를 받으면 바로 가격을 반환한다")
+    void forgetsUnknownProductOnRegistration() {
+        when(products.findPrices(any())).thenReturn(List.of());
+        cache.getAll(List.of("NEW"));
+
+        cache.on(new ProductPriceChangedEvent("NEW", 700, 0));
+
+        assertThat(cache.getAll(List.of("NEW"))).containsEntry("NEW", 700L);
+        verify(products, times(1)).findPrices(anyCollection());
+    }
+}
@@ -0,0 +1,97 @@
+package com.demomodulish.infrastructure;
+
+import com.demomodulish.inventory.InventoryItem;
+import com.demomodulish.inventory.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인스턴스(주 데이터베이스, 복제본)로 읽기 전용 트랜잭션 라우팅을 검증합니다.
+ * <p>
+ * 복제를 흉내 내기 위해 복제본에는 같은 상품을 다른 수량으로 직접 기록하고, 복제 지연은 {@code replica_lag} 테이블 값으로 조정합니다.
+ */
+@SpringBootTest(properties = {
+        "modules.resources.replicas.instances.replica1.url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "modules.resources.replicas.instances.replica1.username=sa",
+        "modules.resources.replicas.lag-query=SELECT seconds FROM replica_lag",
+        "modules.resources.replicas.max-lag=5s"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+    private static final String PRODUCT_ID = "REPLICA-PRODUCT";
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryRepository.deleteAll(inventoryRepository.findAllByProductId(PRODUCT_ID)));
+        inventoryRepository.save(new InventoryItem(PRODUCT_ID, 10, LocalDateTime.now().plusDays(1)));
+
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS inventory_item (id VARCHAR(255) PRIMARY KEY, "
+                    + "product_id VARCHAR(255), quantity INT NOT NULL, expiration_date TIMESTAMP)");
+            statement.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE)");
+            statement.execute("DELETE FROM inventory_item");
+            statement.execute("DELETE FROM replica_lag");
+            statement.execute("INSERT INTO inventory_item VALUES ('replica-batch', '" + PRODUCT_ID + "', 7, DATEADD('DAY', 1, CURRENT_TIMESTAMP))");
+            statement.execute("INSERT INTO replica_lag VALUES (0)");
+        }
+        replicaRoutingDataSource.refreshHealth();
+    }
+
+    @Test
+    void readOnlyQueriesGoToReplica() {
+        assertThat(replicaRoutingDataSource.healthyReplicas()).containsExactly("replica1");
+
+        assertThat(inventoryRepository.findAllByProductId(PRODUCT_ID))
+                .extracting(InventoryItem::getQuantity)
+                .containsExactly(7);
+    }
+
+    @Test
+    void readsInsideWriteTransactionStayOnPrimary() {
+        var quantities = transactionTemplate.execute(status -> inventoryRepository.findAllByProductId(PRODUCT_ID)
+                .stream()
+                .map(InventoryItem::getQuantity)
+                .toList());
+
+        assertThat(quantities).containsExactly(10);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagExceedsTolerance() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE replica_lag SET seconds = 60");
+        }
+        replicaRoutingDataSource.refreshHealth();
+
+        assertThat(replicaRoutingDataSource.healthyReplicas()).isEmpty();
+        assertThat(inventoryRepository.findAllByProductId(PRODUCT_ID))
+                .extracting(InventoryItem::getQuantity)
+                .containsExactly(10);
+    }
+}
@@ -0,0 +1,37 @@
+package com.demomodulish.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StartupConfiguration 단위 테스트")
+class StartupConfigurationTest {
+
+    @Test
+    @DisplayName("기본 설정에서는 springdoc 빈만 지연 초기화한다")
+    void onlySpringdocBeansAreLazyByDefault() throws ClassNotFoundException {
+        LazyInitializationExcludeFilter filter = StartupConfiguration.nonCriticalBeansOnly(new MockEnvironment());
+        Class<?> springdocType = Class.forName("org.springdoc.core.properties.SpringDocConfigProperties");
+
+        assertThat(filter.isExcluded("springDocConfigProperties", new RootBeanDefinition(springdocType), springdocType))
+                .isFalse();
+        assertThat(filter.isExcluded("inventoryExecutor", new RootBeanDefinition(ThreadPoolTaskExecutor.class),
+                ThreadPoolTaskExecutor.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("startup.lazy-packages로 지연 초기화 대상을 지정한다")
+    void lazyPackagesAreConfigurable() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("startup.lazy-packages", "org.springframework.scheduling");
+        LazyInitializationExcludeFilter filter = StartupConfiguration.nonCriticalBeansOnly(environment);
+
+        assertThat(filter.isExcluded("inventoryExecutor", new RootBeanDefinition(ThreadPoolTaskExecutor.class),
+                ThreadPoolTaskExecutor.class)).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package com.demomodulish.inventory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentionProfiler 단위 테스트")
+class ContentionProfilerTest {
+
+    private ContentionProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new ContentionProfiler(3);
+    }
+
+    @Test
+    @DisplayName("누적 락 대기 시간이 큰 순으로 상위 상품을 반환한다")
+    void ordersByTotalWait() {
+        profiler.recordWait("P-1", millis(5));
+        profiler.recordWait("P-2", millis(30));
+        profiler.recordWait("P-3", millis(10));
+        profiler.recordWait("P-3", millis(10));
+
+        List<ContentionProfiler.ProductContention> top = profiler.top(2);
+
+        assertThat(top).extracting(ContentionProfiler.ProductContention::productId)
+                .containsExactly("P-2", "P-3");
+        assertThat(top.get(1).totalWaitMillis()).isEqualTo(20);
+        assertThat(top.get(1).waitTime().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 가벼운 상품을 내보내고, 경합이 집중된 상품은 계속 추적한다")
+    void boundedCapacityKeepsHeavyHitter() {
+        for (int i = 0; i < 1_000; i++) {
+            profiler.recordWait("HOT", millis(10));
+            profiler.recordWait("COLD-" + i, millis(1));
+        }
+
+        List<ContentionProfiler.ProductContention> top = profiler.top(10);
+
+        assertThat(top).hasSize(3);
+        assertThat(top.getFirst().productId()).isEqualTo("HOT");
+        assertThat(top.getFirst().totalWaitMillis()).isEqualTo(10_000);
+        assertThat(top.getFirst().errorMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("보유 시간과 재시도는 추적 중인 상품에만 기록된다")
+    void recordsHoldAndRetryForTrackedProducts() {
+        profiler.recordWait("P-1", millis(1));
+
+        profiler.recordHoldOnCompletion(Map.of("P-1", System.nanoTime() - millis(50), "UNKNOWN", System.nanoTime()));
+        profiler.recordRetry("P-1");
+        profiler.recordRetry("UNKNOWN");
+
+        List<ContentionProfiler.ProductContention> top = profiler.top(10);
+        assertThat(top).extracting(ContentionProfiler.ProductContention::productId).containsExactly("P-1");
+        assertThat(top.getFirst().retries()).isEqualTo(1);
+        assertThat(top.getFirst().holdTime().count()).isEqualTo(1);
+        assertThat(top.getFirst().holdTime().buckets().get("<100ms")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("감쇠 주기마다 누적값이 절반으로 줄고, 남은 값이 없으면 추적을 중단한다")
+    void decayHalvesCounters() {
+        profiler.recordWait("P-1", millis(40));
+        profiler.recordWait("P-1", millis(40));
+        profiler.recordWait("P-2", 1);
+
+        profiler.decay();
+
+        List<ContentionProfiler.ProductContention> top = profiler.top(10);
+        assertThat(top).extracting(ContentionProfiler.ProductContention::productId).containsExactly("P-1");
+        assertThat(top.getFirst().totalWaitMillis()).isEqualTo(40);
+        assertThat(top.getFirst().waitTime().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 유실 없이 집계하고 경합이 집중된 상품을 계속 추적한다")
+    void recordsConcurrentlyWithoutLosingUpdates() throws Exception {
+        int threads = 8;
+        int iterations = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> recorders = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                recorders.add(CompletableFuture.runAsync(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < iterations; i++) {
+                        profiler.recordWait("HOT", millis(10));
+                        profiler.recordWait("COLD-" + thread + "-" + i, millis(1));
+                    }
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(recorders.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        }
+
+        List<ContentionProfiler.ProductContention> top = profiler.top(10);
+
+        assertThat(top).hasSize(3);
+        assertThat(top.getFirst().productId()).isEqualTo("HOT");
+        assertThat(top.getFirst().totalWaitMillis()).isEqualTo(threads * iterations * 10L);
+        assertThat(top.getFirst().waitTime().count()).isEqualTo((long) threads * iterations);
+        assertThat(top.getFirst().errorMillis()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
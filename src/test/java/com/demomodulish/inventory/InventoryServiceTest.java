@@ -2,6 +2,8 @@ package com.demomodulish.inventory;
 
 import com.demomodulish.common.InventoryFailedEvent;
 import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCancelledEvent;
 import com.demomodulish.common.OrderCompletedEvent;
 import com.demomodulish.common.PaymentFailedEvent;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @DisplayName("InventoryService 단위 테스트")
@@ -32,7 +35,8 @@ class InventoryServiceTest {
         inventoryRepository = mock(InventoryRepository.class);
         inventoryTransactionRepository = mock(InventoryTransactionRepository.class);
         events = mock(ApplicationEventPublisher.class);
-        inventoryService = new InventoryService(inventoryRepository, inventoryTransactionRepository, events);
+        inventoryService = new InventoryService(inventoryRepository, inventoryTransactionRepository, events,
+                new ContentionProfiler(100));
     }
 
     private int getQuantity(InventoryItem item) {
@@ -49,21 +53,69 @@ class InventoryServiceTest {
     @DisplayName("이미 처리된 주문은 중복 처리하지 않는다")
     void shouldSkipAlreadyProcessedOrder() {
         String orderId = "ORDER-1";
-        OrderCompletedEvent event = new OrderCompletedEvent(orderId, "PRODUCT-1", 5, 5000L);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-1", 5, 1000L));
         when(inventoryTransactionRepository.existsById(orderId)).thenReturn(true);
 
-        inventoryService.on(event);
+        inventoryService.allocate(event);
 
         verify(inventoryTransactionRepository).existsById(orderId);
         verify(inventoryRepository, never()).findAllByProductIdWithLock(any());
         verify(events, never()).publishEvent(any());
     }
 
+    @Test
+    @DisplayName("락을 기다리는 동안 같은 주문이 먼저 할당되면 기록과 이벤트 없이 재시도 대상 예외를 던진다")
+    void retriesWhenSameOrderWasAllocatedWhileWaitingForLock() {
+        String orderId = "ORDER-DUPLICATE";
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-1", 1, 1000L));
+        when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false, true);
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-1"))
+                .thenReturn(List.of(new InventoryItem("PRODUCT-1", 5, LocalDateTime.now().plusDays(1))));
+
+        assertThatThrownBy(() -> inventoryService.allocate(event)).isInstanceOf(ConcurrencyFailureException.class);
+
+        verify(inventoryTransactionRepository, never()).save(any());
+        verify(events, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("처리 기한이 지난 주문은 락을 잡지 않고 실패 이벤트로 취소한다")
+    void shedsExpiredOrderWithoutLocking() {
+        String orderId = "ORDER-EXPIRED";
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId,
+                List.of(new LineItem("PRODUCT-1", 1, 1000L)), 1000L, LocalDateTime.now().minusSeconds(1));
+        when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
+
+        inventoryService.allocate(event);
+
+        verify(inventoryRepository, never()).findAllByProductIdWithLock(any());
+        verify(inventoryTransactionRepository).save(argThat((InventoryTransaction transaction) -> transaction.getDeductedBatches().isEmpty()));
+        verify(events).publishEvent(argThat((Object published) -> published instanceof InventoryFailedEvent failed
+                && failed.orderId().equals(orderId)));
+    }
+
+    @Test
+    @DisplayName("처리 기한이 남은 주문은 기한을 재고 확인 이벤트로 전달한다")
+    void propagatesDeadlineToVerifiedEvent() {
+        String orderId = "ORDER-DEADLINE";
+        LocalDateTime deadline = LocalDateTime.now().plusMinutes(1);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId,
+                List.of(new LineItem("PRODUCT-1", 1, 1000L)), 1000L, deadline);
+        when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-1"))
+                .thenReturn(List.of(new InventoryItem("PRODUCT-1", 5, LocalDateTime.now().plusDays(1))));
+
+        inventoryService.allocate(event);
+
+        verify(events).publishEvent(argThat((Object published) -> published instanceof InventoryVerifiedEvent verified
+                && deadline.equals(verified.deadline())));
+    }
+
     @Test
     @DisplayName("재고가 부족하면 실패 이벤트를 발행한다")
     void shouldPublishFailureEventWhenOutOfStock() {
         String orderId = "ORDER-2";
-        OrderCompletedEvent event = new OrderCompletedEvent(orderId, "PRODUCT-2", 10, 10000L);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-2", 10, 1000L));
         when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
 
         List<InventoryItem> batches = List.of(
@@ -71,7 +123,7 @@ class InventoryServiceTest {
         );
         when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-2")).thenReturn(batches);
 
-        inventoryService.on(event);
+        inventoryService.allocate(event);
 
         verify(events).publishEvent(any(InventoryFailedEvent.class));
         verify(inventoryTransactionRepository).save(any(InventoryTransaction.class));
@@ -81,7 +133,7 @@ class InventoryServiceTest {
     @DisplayName("유통기한이 지난 재고는 사용하지 않는다")
     void shouldIgnoreExpiredInventory() {
         String orderId = "ORDER-3";
-        OrderCompletedEvent event = new OrderCompletedEvent(orderId, "PRODUCT-3", 3, 3000L);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-3", 3, 1000L));
         when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
 
         List<InventoryItem> batches = List.of(
@@ -90,7 +142,7 @@ class InventoryServiceTest {
         );
         when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-3")).thenReturn(batches);
 
-        inventoryService.on(event);
+        inventoryService.allocate(event);
 
         verify(events).publishEvent(any(InventoryVerifiedEvent.class));
         verify(inventoryTransactionRepository).save(any(InventoryTransaction.class));
@@ -100,7 +152,7 @@ class InventoryServiceTest {
     @DisplayName("여러 배치에서 FIFO 순서로 재고를 차감한다")
     void shouldDeductInventoryFIFO() {
         String orderId = "ORDER-4";
-        OrderCompletedEvent event = new OrderCompletedEvent(orderId, "PRODUCT-4", 15, 15000L);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-4", 15, 1000L));
         when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
 
         InventoryItem batch1 = new InventoryItem("PRODUCT-4", 10, LocalDateTime.now().plusDays(5));
@@ -108,7 +160,7 @@ class InventoryServiceTest {
         List<InventoryItem> batches = Arrays.asList(batch1, batch2);
         when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-4")).thenReturn(batches);
 
-        inventoryService.on(event);
+        inventoryService.allocate(event);
 
         verify(events).publishEvent(any(InventoryVerifiedEvent.class));
         assertThat(getQuantity(batch1)).isZero();
@@ -119,13 +171,13 @@ class InventoryServiceTest {
     @DisplayName("동시성 오류 발생 시 재시도한다")
     void shouldRetryOnConcurrencyFailure() {
         String orderId = "ORDER-5";
-        OrderCompletedEvent event = new OrderCompletedEvent(orderId, "PRODUCT-5", 5, 5000L);
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, new LineItem("PRODUCT-5", 5, 1000L));
         when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
 
         when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-5"))
                 .thenThrow(new ConcurrencyFailureException("Concurrency conflict"));
 
-        assertThatThrownBy(() -> inventoryService.on(event))
+        assertThatThrownBy(() -> inventoryService.allocate(event))
                 .isInstanceOf(ConcurrencyFailureException.class);
 
         verify(inventoryRepository).findAllByProductIdWithLock("PRODUCT-5");
@@ -139,7 +191,7 @@ class InventoryServiceTest {
         deductedBatches.put("BATCH-1", 3);
         deductedBatches.put("BATCH-2", 2);
 
-        PaymentFailedEvent event = new PaymentFailedEvent(orderId, "Test", "PRODUCT-6", 5, deductedBatches);
+        PaymentFailedEvent event = new PaymentFailedEvent(orderId, "Test", new LineItem("PRODUCT-6", 5, 1000L), deductedBatches);
 
         InventoryItem batch1 = new InventoryItem("PRODUCT-6", 7, LocalDateTime.now().plusDays(1));
         InventoryItem batch2 = new InventoryItem("PRODUCT-6", 8, LocalDateTime.now().plusDays(1));
@@ -147,11 +199,122 @@ class InventoryServiceTest {
         when(inventoryRepository.findById("BATCH-1")).thenReturn(Optional.of(batch1));
         when(inventoryRepository.findById("BATCH-2")).thenReturn(Optional.of(batch2));
 
-        inventoryService.on(event);
+        inventoryService.restore(event);
 
         verify(inventoryRepository).findById("BATCH-1");
         verify(inventoryRepository).findById("BATCH-2");
         assertThat(getQuantity(batch1)).isEqualTo(10);
         assertThat(getQuantity(batch2)).isEqualTo(10);
     }
+
+    @Test
+    @DisplayName("여러 품목 주문은 상품 ID 순서로 락을 획득하고 한 번에 차감한다")
+    void shouldAllocateAllLinesInGlobalLockOrder() {
+        String orderId = "ORDER-7";
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, List.of(
+                new LineItem("PRODUCT-B", 2, 1000L),
+                new LineItem("PRODUCT-A", 3, 1000L),
+                new LineItem("PRODUCT-B", 1, 1000L)
+        ), 6000L);
+        when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
+
+        InventoryItem batchA = new InventoryItem("PRODUCT-A", 10, LocalDateTime.now().plusDays(1));
+        InventoryItem batchB = new InventoryItem("PRODUCT-B", 10, LocalDateTime.now().plusDays(1));
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-A")).thenReturn(List.of(batchA));
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-B")).thenReturn(List.of(batchB));
+
+        inventoryService.allocate(event);
+
+        var lockOrder = inOrder(inventoryRepository);
+        lockOrder.verify(inventoryRepository).findAllByProductIdWithLock("PRODUCT-A");
+        lockOrder.verify(inventoryRepository).findAllByProductIdWithLock("PRODUCT-B");
+        verify(inventoryRepository, times(1)).findAllByProductIdWithLock("PRODUCT-B");
+        verify(events).publishEvent(any(InventoryVerifiedEvent.class));
+        assertThat(getQuantity(batchA)).isEqualTo(7);
+        assertThat(getQuantity(batchB)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("한 품목이라도 재고가 부족하면 어떤 품목도 차감하지 않는다")
+    void shouldNotDeductAnyLineWhenOneLineIsShort() {
+        String orderId = "ORDER-8";
+        OrderCompletedEvent event = new OrderCompletedEvent(orderId, List.of(
+                new LineItem("PRODUCT-A", 3, 1000L),
+                new LineItem("PRODUCT-B", 20, 1000L)
+        ), 23000L);
+        when(inventoryTransactionRepository.existsById(orderId)).thenReturn(false);
+
+        InventoryItem batchA = new InventoryItem("PRODUCT-A", 10, LocalDateTime.now().plusDays(1));
+        InventoryItem batchB = new InventoryItem("PRODUCT-B", 10, LocalDateTime.now().plusDays(1));
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-A")).thenReturn(List.of(batchA));
+        when(inventoryRepository.findAllByProductIdWithLock("PRODUCT-B")).thenReturn(List.of(batchB));
+
+        inventoryService.allocate(event);
+
+        verify(events).publishEvent(any(InventoryFailedEvent.class));
+        assertThat(getQuantity(batchA)).isEqualTo(10);
+        assertThat(getQuantity(batchB)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 품목 결제 실패 시 상품 ID 순서로 락을 획득하여 모든 배치를 복구한다")
+    void shouldRestoreAllLinesInGlobalLockOrder() {
+        InventoryItem batchA = new InventoryItem("PRODUCT-A", 7, LocalDateTime.now().plusDays(1));
+        InventoryItem batchB = new InventoryItem("PRODUCT-B", 0, LocalDateTime.now().plusDays(1));
+        when(inventoryRepository.findAllByProductIdForRestore("PRODUCT-A")).thenReturn(List.of(batchA));
+        when(inventoryRepository.findAllByProductIdForRestore("PRODUCT-B")).thenReturn(List.of(batchB));
+
+        PaymentFailedEvent event = new PaymentFailedEvent("ORDER-9", "Test", List.of(
+                new LineItem("PRODUCT-B", 4, 1000L),
+                new LineItem("PRODUCT-A", 3, 1000L)
+        ), Map.of(batchA.getId(), 3, batchB.getId(), 4));
+
+        inventoryService.restore(event);
+
+        var lockOrder = inOrder(inventoryRepository);
+        lockOrder.verify(inventoryRepository).findAllByProductIdForRestore("PRODUCT-A");
+        lockOrder.verify(inventoryRepository).findAllByProductIdForRestore("PRODUCT-B");
+        verify(inventoryRepository, never()).findById(any());
+        assertThat(getQuantity(batchA)).isEqualTo(10);
+        assertThat(getQuantity(batchB)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이미 복구된 주문의 결제 실패 이벤트는 재고를 다시 복구하지 않는다")
+    void shouldNotRestoreTwice() {
+        InventoryTransaction transaction = new InventoryTransaction("ORDER-10", LocalDateTime.now(), Map.of("BATCH-1", 3));
+        transaction.markRestored();
+        when(inventoryTransactionRepository.findByIdForUpdate("ORDER-10")).thenReturn(Optional.of(transaction));
+
+        inventoryService.restore(new PaymentFailedEvent("ORDER-10", "Test", new LineItem("PRODUCT-1", 3, 1000L), Map.of("BATCH-1", 3)));
+
+        verify(inventoryRepository, never()).findAllByProductIdForRestore(any());
+        verify(inventoryRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("주문이 취소되면 처리 기록의 차감 배치를 복구하고 복구 완료로 표시한다")
+    void shouldRestoreDeductedBatchesOnCancellation() {
+        InventoryItem batch = new InventoryItem("PRODUCT-A", 7, LocalDateTime.now().plusDays(1));
+        InventoryTransaction transaction = new InventoryTransaction("ORDER-11", LocalDateTime.now(), Map.of(batch.getId(), 3));
+        when(inventoryTransactionRepository.findByIdForUpdate("ORDER-11")).thenReturn(Optional.of(transaction));
+        when(inventoryRepository.findAllByProductIdForRestore("PRODUCT-A")).thenReturn(List.of(batch));
+
+        inventoryService.cancel(new OrderCancelledEvent("ORDER-11", "Test", List.of(new LineItem("PRODUCT-A", 3, 1000L))));
+
+        assertThat(getQuantity(batch)).isEqualTo(10);
+        assertThat(transaction.isRestored()).isTrue();
+    }
+
+    @Test
+    @DisplayName("할당 전에 취소된 주문은 취소 기록을 남겨 이후 할당을 막는다")
+    void shouldRecordCancellationBeforeAllocation() {
+        when(inventoryTransactionRepository.findByIdForUpdate("ORDER-12")).thenReturn(Optional.empty());
+
+        inventoryService.cancel(new OrderCancelledEvent("ORDER-12", "Test", List.of(new LineItem("PRODUCT-A", 3, 1000L))));
+
+        verify(inventoryTransactionRepository).save(argThat(transaction ->
+                transaction.getOrderId().equals("ORDER-12") && transaction.isRestored()));
+        verify(inventoryRepository, never()).findAllByProductIdForRestore(any());
+    }
 }
@@ -0,0 +1,314 @@
+package com.demomodulish.inventory;
+
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCompletedEvent;
+import com.demomodulish.order.Order;
+import com.demomodulish.order.OrderLine;
+import com.demomodulish.order.OrderManagement;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 소수의 인기 상품에 대량의 동시 주문, 중복 이벤트 전달, 결제 실패를 몰아넣고 재고가 보존되는지 검증합니다.
+ * <p>
+ * 비관적 락, {@code @Retryable}, {@link InventoryTransaction} 멱등성 검사가 동시성 아래에서도 유지되는지 확인하는
+ * 스트레스 스위트로, 기본 테스트에서는 제외되며 {@code ./gradlew stressTest}로 실행합니다.
+ * 규모는 {@code -Pstress.orders}, {@code -Pstress.concurrency}로 조정합니다.
+ * <p>
+ * 검증 조건 (상품별): 초기 재고 = 남은 재고 + 확정(COMPLETED) 주문의 판매 수량, 그리고 실행 중 어떤 배치도 음수가 되지 않음.
+ * 상품 레인을 거치지 않고 같은 주문을 동시에 할당하는 경우도 함께 검증합니다.
+ */
+@Slf4j
+@Tag("stress")
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class InventoryStressTests {
+
+    private static final List<String> HOT_PRODUCTS = List.of("STRESS-HOT-1", "STRESS-HOT-2", "STRESS-HOT-3");
+    private static final int BATCHES_PER_PRODUCT = 3;
+    private static final int BATCH_QUANTITY = 300;
+    private static final long PRICE = 1000L;
+    private static final long DECLINED_AMOUNT = 9999L; // payment.test-failure-amount
+
+    private static final int ORDERS = Integer.getInteger("stress.orders", 2000);
+    private static final int CONCURRENCY = Integer.getInteger("stress.concurrency", 32);
+
+    private static final List<String> DUPLICATE_PRODUCTS = List.of("STRESS-DUP-1", "STRESS-DUP-2");
+    private static final int DUPLICATE_ORDERS = 200;
+    private static final int DELIVERIES_PER_ORDER = 4; // stress.concurrency 이하
+
+    @Autowired
+    private OrderManagement orderManagement;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ContentionProfiler contentionProfiler;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("동시 주문, 중복 전달, 결제 실패가 섞여도 재고는 보존되고 음수가 되지 않는다")
+    void conservesStockUnderConcurrentSagas() throws Exception {
+        // Given: 인기 상품마다 유통기한이 다른 배치 3개
+        for (String productId : HOT_PRODUCTS) {
+            for (int batch = 1; batch <= BATCHES_PER_PRODUCT; batch++) {
+                inventoryRepository.save(new InventoryItem(productId, BATCH_QUANTITY, LocalDateTime.now().plusDays(batch)));
+            }
+        }
+        int initialStock = BATCHES_PER_PRODUCT * BATCH_QUANTITY;
+
+        Random random = new Random(42);
+        List<Order> orders = new ArrayList<>();
+        List<Boolean> redeliver = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(randomOrder(random));
+            redeliver.add(random.nextInt(10) == 0);
+        }
+
+        AtomicInteger minQuantity = new AtomicInteger(Integer.MAX_VALUE);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleWithFixedDelay(() -> minQuantity.accumulateAndGet(
+                jdbcTemplate.queryForObject("SELECT COALESCE(MIN(quantity), 0) FROM inventory_item WHERE product_id LIKE 'STRESS-%'",
+                        Integer.class), Math::min), 0, 50, TimeUnit.MILLISECONDS);
+
+        // When: 모든 주문을 동시에 접수하고, 일부는 같은 OrderCompletedEvent를 한 번 더 전달
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong duplicates = new AtomicLong();
+        long startedAt;
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<CompletableFuture<Void>> submissions = new ArrayList<>();
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = orders.get(i);
+                boolean duplicate = redeliver.get(i);
+                submissions.add(CompletableFuture.runAsync(() -> {
+                    awaitQuietly(start);
+                    orderManagement.place(order);
+                    if (duplicate) {
+                        transactionTemplate.executeWithoutResult(status -> events.publishEvent(completedEvent(order)));
+                        duplicates.incrementAndGet();
+                    }
+                }, clients));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        }
+
+        // Then 1: 모든 주문이 종료 상태가 된다
+        await().atMost(Duration.ofMinutes(5)).pollInterval(Duration.ofMillis(200))
+                .until(() -> countByStatus("PENDING") == 0);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        // Then 2: 보상(재고 복구)까지 반영되면 상품별 재고가 보존된다
+        await().atMost(Duration.ofMinutes(1)).pollInterval(Duration.ofMillis(200)).untilAsserted(() -> {
+            for (String productId : HOT_PRODUCTS) {
+                assertThat(remainingStock(productId) + soldQuantity(productId))
+                        .as("재고 보존: %s", productId)
+                        .isEqualTo(initialStock);
+            }
+        });
+        sampler.shutdownNow();
+
+        // Then 3: 어떤 시점에도 음수 재고가 없었고, 판매 수량은 초기 재고를 넘지 않는다
+        assertThat(minQuantity.get()).isGreaterThanOrEqualTo(0);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_item WHERE product_id LIKE 'STRESS-%' AND quantity < 0", Long.class)).isZero();
+        for (String productId : HOT_PRODUCTS) {
+            assertThat(soldQuantity(productId)).isLessThanOrEqualTo(initialStock);
+        }
+
+        long completed = countByStatus("COMPLETED");
+        long cancelled = countByStatus("CANCELLED");
+        assertThat(completed + cancelled).isEqualTo(ORDERS);
+        assertThat(completed).isPositive();
+        assertThat(cancelled).isPositive();
+
+        Map<String, ContentionProfiler.ProductContention> contention = new HashMap<>();
+        contentionProfiler.top(HOT_PRODUCTS.size() * 10).stream()
+                .filter(entry -> HOT_PRODUCTS.contains(entry.productId()))
+                .forEach(entry -> contention.put(entry.productId(), entry));
+        long retries = contention.values().stream().mapToLong(ContentionProfiler.ProductContention::retries).sum();
+
+        log.info("📊 [Stress] 주문 {}건 (동시성 {}, 중복 전달 {}건) -> 확정 {}건, 취소 {}건, {}초, {}건/초, 락 재시도 {}회",
+                ORDERS, CONCURRENCY, duplicates.get(), completed, cancelled,
+                String.format("%.2f", elapsedSeconds), String.format("%.1f", ORDERS / elapsedSeconds), retries);
+        HOT_PRODUCTS.forEach(productId -> {
+            ContentionProfiler.ProductContention entry = contention.get(productId);
+            log.info("📊 [Stress] {}: 판매 {}개, 남은 재고 {}개, 락 대기 누적 {}ms, 재시도 {}회", productId,
+                    soldQuantity(productId), remainingStock(productId),
+                    entry == null ? 0 : entry.totalWaitMillis(), entry == null ? 0 : entry.retries());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 주문의 할당이 상품 레인을 거치지 않고 동시에 실행되어도 재시도로 한 번만 차감한다")
+    void allocatesConcurrentDuplicatesOnce() throws Exception {
+        // Given: 두 상품마다 배치 3개, 두 상품을 1~3개씩 담은 주문
+        for (String productId : DUPLICATE_PRODUCTS) {
+            for (int batch = 1; batch <= BATCHES_PER_PRODUCT; batch++) {
+                inventoryRepository.save(new InventoryItem(productId, BATCH_QUANTITY, LocalDateTime.now().plusDays(batch)));
+            }
+        }
+        int initialStock = BATCHES_PER_PRODUCT * BATCH_QUANTITY;
+
+        Random random = new Random(7);
+        List<OrderCompletedEvent> orders = new ArrayList<>();
+        for (int i = 0; i < DUPLICATE_ORDERS; i++) {
+            List<LineItem> lines = DUPLICATE_PRODUCTS.stream()
+                    .map(productId -> new LineItem(productId, 1 + random.nextInt(3), PRICE))
+                    .toList();
+            orders.add(new OrderCompletedEvent("STRESS-DUP-ORDER-" + i, lines,
+                    lines.stream().mapToLong(LineItem::amount).sum()));
+        }
+
+        // When: 주문마다 같은 이벤트를 여러 스레드에서 동시에 할당
+        AtomicInteger failedDeliveries = new AtomicInteger();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+            for (OrderCompletedEvent order : orders) {
+                CountDownLatch ready = new CountDownLatch(DELIVERIES_PER_ORDER);
+                for (int delivery = 0; delivery < DELIVERIES_PER_ORDER; delivery++) {
+                    deliveries.add(CompletableFuture.runAsync(() -> {
+                        ready.countDown();
+                        awaitQuietly(ready);
+                        try {
+                            inventoryService.allocate(order);
+                        } catch (RuntimeException e) {
+                            failedDeliveries.incrementAndGet();
+                            log.warn("⚠️ [Stress] 할당 실패: {} ({})", order.orderId(), e.getMessage());
+                        }
+                    }, clients));
+                }
+            }
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        }
+
+        // Then 1: 주문마다 처리 기록은 하나이고, 차감되었다가 복구되지 않은 수량만큼만 재고가 줄어든다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_transaction WHERE order_id LIKE 'STRESS-DUP-ORDER-%'", Long.class))
+                .isEqualTo(DUPLICATE_ORDERS);
+        await().atMost(Duration.ofMinutes(1)).pollInterval(Duration.ofMillis(200)).untilAsserted(() -> {
+            for (String productId : DUPLICATE_PRODUCTS) {
+                assertThat(remainingStock(productId) + heldQuantity(productId))
+                        .as("재고 보존: %s", productId)
+                        .isEqualTo(initialStock);
+            }
+        });
+
+        // Then 2: 락을 기다리다 먼저 할당된 것을 확인한 중복 전달은 재시도되었다
+        long retries = contentionProfiler.top(DUPLICATE_PRODUCTS.size() * 10).stream()
+                .filter(entry -> DUPLICATE_PRODUCTS.contains(entry.productId()))
+                .mapToLong(ContentionProfiler.ProductContention::retries)
+                .sum();
+        log.info("📊 [Stress] 주문 {}건 x 동시 전달 {}회 -> 락 재시도 {}회, 최종 실패 전달 {}건",
+                DUPLICATE_ORDERS, DELIVERIES_PER_ORDER, retries, failedDeliveries.get());
+        assertThat(retries).isPositive();
+    }
+
+    /**
+     * 10%는 결제가 거절되는 금액의 단일 품목 주문, 나머지는 인기 상품 1~2개를 1~3개씩 담은 주문입니다.
+     */
+    private static Order randomOrder(Random random) {
+        if (random.nextInt(10) == 0) {
+            String productId = HOT_PRODUCTS.get(random.nextInt(HOT_PRODUCTS.size()));
+            return new Order(productId, 1, DECLINED_AMOUNT);
+        }
+        List<String> products = new ArrayList<>(HOT_PRODUCTS);
+        Collections.shuffle(products, random);
+        int lineCount = 1 + random.nextInt(2);
+        List<OrderLine> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLine(products.get(i), 1 + random.nextInt(3), PRICE));
+        }
+        return new Order(lines);
+    }
+
+    private static OrderCompletedEvent completedEvent(Order order) {
+        return new OrderCompletedEvent(order.getId(), order.getLines().stream()
+                .map(line -> new LineItem(line.getProductId(), line.getQuantity(), line.getPrice()))
+                .toList(), order.getTotalAmount());
+    }
+
+    private long countByStatus(String status) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM orders o
+                WHERE o.status = ?
+                  AND EXISTS (SELECT 1 FROM order_lines l WHERE l.order_id = o.id AND l.product_id LIKE 'STRESS-%')
+                """, Long.class, status);
+    }
+
+    private int remainingStock(String productId) {
+        return inventoryRepository.findAllByProductId(productId).stream()
+                .mapToInt(InventoryItem::getQuantity)
+                .sum();
+    }
+
+    private int soldQuantity(String productId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(l.quantity), 0) FROM order_lines l
+                JOIN orders o ON o.id = l.order_id
+                WHERE o.status = 'COMPLETED' AND l.product_id = ?
+                """, Integer.class, productId);
+    }
+
+    /**
+     * 처리 기록에 남아 있고 아직 복구되지 않은 차감 수량입니다. (결제 실패로 복구된 주문은 제외)
+     */
+    private int heldQuantity(String productId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(b.quantity), 0) FROM inventory_transaction_batches b
+                JOIN inventory_transaction t ON t.order_id = b.order_id
+                JOIN inventory_item i ON i.id = b.batch_id
+                WHERE t.restored = FALSE AND i.product_id = ?
+                """, Integer.class, productId);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.demomodulish.inventory;
+
+import com.demomodulish.infrastructure.ModuleResourceContext;
+import com.demomodulish.inventory.ProductLanes.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductLanes 단위 테스트")
+class ProductLanesTest {
+
+    private SimpleMeterRegistry registry;
+    private ProductLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        lanes = new ProductLanes(4, registry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lanes.close();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 작업은 하나씩 제출 순서대로 실행된다")
+    void serializesTasksOfSameProduct() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> executionOrder = new CopyOnWriteArrayList<>();
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int sequence = i;
+            results.add(lanes.submit("PRODUCT-1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executionOrder.add(sequence);
+                sleep(5);
+                running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executionOrder).isEqualTo(IntStream.range(0, 20).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("다른 레인의 상품은 병렬로 실행된다")
+    void runsDifferentLanesInParallel() {
+        String first = "PRODUCT-A";
+        String second = IntStream.range(0, 100)
+                .mapToObj(i -> "PRODUCT-" + i)
+                .filter(productId -> lanes.laneOf(productId) != lanes.laneOf(first))
+                .findFirst()
+                .orElseThrow();
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        CompletableFuture<Void> firstTask = lanes.submit(first, () -> awaitBoth(bothRunning));
+        CompletableFuture<Void> secondTask = lanes.submit(second, () -> awaitBoth(bothRunning));
+
+        CompletableFuture.allOf(firstTask, secondTask).orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(bothRunning.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보상 작업은 대기 중인 신규 할당보다 먼저 실행된다")
+    void runsHighPriorityTasksBeforeQueuedNormalTasks() throws Exception {
+        CountDownLatch blockerRunning = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+
+        results.add(lanes.submit("PRODUCT-1", () -> {
+            blockerRunning.countDown();
+            await(releaseBlocker);
+        }));
+        assertThat(blockerRunning.await(2, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 3; i++) {
+            String name = "allocate-" + i;
+            results.add(lanes.submit("PRODUCT-1", () -> executionOrder.add(name)));
+        }
+        results.add(lanes.submit("PRODUCT-1", Priority.HIGH, () -> executionOrder.add("restore")));
+
+        assertThat(registry.get("inventory.lanes.queued").tag("priority", "normal").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("inventory.lanes.queued").tag("priority", "high").gauge().value()).isEqualTo(1);
+
+        releaseBlocker.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(executionOrder).containsExactly("restore", "allocate-0", "allocate-1", "allocate-2");
+        assertThat(lanes.queued(Priority.NORMAL)).isZero();
+        assertThat(lanes.queued(Priority.HIGH)).isZero();
+        assertThat(registry.get("inventory.lanes.wait").tag("priority", "high").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("레인 작업의 예외로 반환된 future가 실패한다")
+    void propagatesTaskFailure() {
+        CompletableFuture<Void> result = lanes.submit("PRODUCT-1", () -> {
+            throw new IllegalStateException("할당 실패");
+        });
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(IllegalStateException.class).hasMessage("할당 실패");
+    }
+
+    @Test
+    @DisplayName("제출은 앞선 작업이 끝날 때까지 기다리지 않고, 종료된 레인에 제출하면 실패한 future를 반환한다")
+    void submitsWithoutBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocker = lanes.submit("PRODUCT-1", () -> await(release));
+
+        CompletableFuture<Void> queuedTask = lanes.submit("PRODUCT-1", () -> { });
+
+        assertThat(queuedTask).isNotDone();
+        release.countDown();
+        CompletableFuture.allOf(blocker, queuedTask).orTimeout(5, TimeUnit.SECONDS).join();
+
+        lanes.close();
+        assertThat(lanes.submit("PRODUCT-1", () -> { })).isCompletedExceptionally();
+        assertThat(lanes.queued(Priority.NORMAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("레인 스레드는 inventory 리소스 그룹을 사용한다")
+    void bindsInventoryResourceGroup() {
+        AtomicInteger bound = new AtomicInteger();
+
+        lanes.submit("PRODUCT-1", () -> {
+            if ("inventory".equals(ModuleResourceContext.current())) {
+                bound.incrementAndGet();
+            }
+        }).join();
+
+        assertThat(bound.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitBoth(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 레인의 작업이 동시에 실행되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AdmissionControl 단위 테스트")
+class AdmissionControlTest {
+
+    private static final BacklogSnapshot HEALTHY = new BacklogSnapshot(0, 0, Duration.ZERO);
+    private static final BacklogSnapshot OVERLOADED = new BacklogSnapshot(10_000, 0, Duration.ZERO);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private AdmissionControl admissionControl(Map<String, Double> productRateLimits) {
+        var properties = new AdmissionProperties(true, 5000, 1000, Duration.ofSeconds(30), Duration.ofMinutes(10), 100, 10, productRateLimits);
+        return new AdmissionControl(properties, mock(BacklogProbe.class), nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("적체가 없으면 접수량을 제한하지 않는다")
+    void admitsEverythingWhenHealthy() {
+        var admissionControl = admissionControl(Map.of());
+        admissionControl.adjust(HEALTHY);
+
+        for (int i = 0; i < 1_000; i++) {
+            admissionControl.admit(List.of("PRODUCT-1"));
+        }
+
+        assertThat(admissionControl.isThrottled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적체가 임계치를 넘으면 접수 한도를 줄이고 초과 요청은 Retry-After와 함께 거절한다")
+    void throttlesWhenBacklogExceedsThreshold() {
+        var admissionControl = admissionControl(Map.of());
+
+        admissionControl.adjust(OVERLOADED);
+
+        assertThat(admissionControl.isThrottled()).isTrue();
+        for (int i = 0; i < 50; i++) {
+            admissionControl.admit(List.of("PRODUCT-1"));
+        }
+        assertThatThrownBy(() -> admissionControl.admit(List.of("PRODUCT-1")))
+                .isInstanceOf(OrderRejectedException.class)
+                .satisfies(e -> assertThat(((OrderRejectedException) e).getRetryAfter()).isPositive());
+    }
+
+    @Test
+    @DisplayName("적체가 해소되면 접수 한도를 점진적으로 늘려 자동으로 제한을 해제한다")
+    void recoversAutomaticallyWhenBacklogClears() {
+        var admissionControl = admissionControl(Map.of());
+        admissionControl.adjust(OVERLOADED);
+
+        for (int i = 0; i < 4; i++) {
+            admissionControl.adjust(HEALTHY);
+            assertThat(admissionControl.isThrottled()).isTrue();
+        }
+        admissionControl.adjust(HEALTHY);
+
+        assertThat(admissionControl.isThrottled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인기 상품은 상품별 한도를 넘으면 거절하지만 다른 상품은 접수한다")
+    void appliesPerProductRateLimits() {
+        var admissionControl = admissionControl(Map.of("HOT-SKU", 2.0));
+
+        admissionControl.admit(List.of("HOT-SKU"));
+        admissionControl.admit(List.of("HOT-SKU"));
+
+        assertThatThrownBy(() -> admissionControl.admit(List.of("HOT-SKU")))
+                .isInstanceOf(OrderRejectedException.class);
+        assertThatNoException().isThrownBy(() -> admissionControl.admit(List.of("PRODUCT-1")));
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThatNoException().isThrownBy(() -> admissionControl.admit(List.of("HOT-SKU")));
+    }
+
+    @Test
+    @DisplayName("상품별 한도로 거절된 요청은 전체 접수 한도를 소모하지 않는다")
+    void productRejectionDoesNotConsumeGlobalPermits() {
+        var admissionControl = admissionControl(Map.of("HOT-SKU", 2.0));
+        admissionControl.adjust(OVERLOADED);
+
+        admissionControl.admit(List.of("HOT-SKU"));
+        admissionControl.admit(List.of("HOT-SKU"));
+        for (int i = 0; i < 100; i++) {
+            assertThatThrownBy(() -> admissionControl.admit(List.of("HOT-SKU")))
+                    .hasMessageContaining("HOT-SKU");
+        }
+
+        for (int i = 0; i < 48; i++) {
+            admissionControl.admit(List.of("PRODUCT-1"));
+        }
+        assertThatThrownBy(() -> admissionControl.admit(List.of("PRODUCT-1")))
+                .isInstanceOf(OrderRejectedException.class);
+    }
+}
@@ -0,0 +1,316 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IntakeJournal 단위 테스트")
+class IntakeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("fsync된 레코드를 기록 순서대로 읽는다")
+    void readsAppendedRecordsInOrder() throws Exception {
+        try (IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024)) {
+            journal.append(bytes("A"));
+            journal.append(bytes("B"));
+
+            var entries = journal.read(journal.readCheckpoint(), 10);
+
+            assertThat(entries).extracting(entry -> text(entry.payload())).containsExactly("A", "B");
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 추가된 레코드를 유실 없이 기록하고 세그먼트 크기를 넘으면 새 세그먼트로 넘어간다")
+    void rollsSegmentsUnderConcurrentAppends() throws Exception {
+        try (IntakeJournal journal = new IntakeJournal(directory, 64)) {
+            CompletableFuture.allOf(IntStream.range(0, 50)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> journal.append(bytes("ORDER-" + i))))
+                    .toArray(CompletableFuture[]::new)).join();
+            // 세그먼트는 그룹 경계에서 넘어가므로, 한 그룹에 모두 묶였더라도 다음 기록은 새 세그먼트로 간다
+            journal.append(bytes("ORDER-50"));
+
+            var entries = journal.read(journal.readCheckpoint(), 100);
+
+            assertThat(entries).hasSize(51);
+            assertThat(segmentCount()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후의 레코드만 다시 읽고, 처리 완료된 세그먼트는 삭제한다")
+    void resumesFromCheckpointAfterRestart() throws Exception {
+        try (IntakeJournal journal = new IntakeJournal(directory, 32)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("ORDER-" + i));
+            }
+            var drained = journal.read(journal.readCheckpoint(), 6);
+            journal.checkpoint(drained.getLast().next());
+        }
+
+        try (IntakeJournal journal = new IntakeJournal(directory, 32)) {
+            var entries = journal.read(journal.readCheckpoint(), 100);
+
+            assertThat(entries).extracting(entry -> text(entry.payload()))
+                    .containsExactly("ORDER-6", "ORDER-7", "ORDER-8", "ORDER-9");
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 찢어진 꼬리 레코드를 잘라내고 이어서 기록한다")
+    void truncatesTornTailOnRestart() throws Exception {
+        try (IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024)) {
+            journal.append(bytes("A"));
+        }
+        Path segment = segments().getFirst();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 42, 1, 2}));
+        }
+
+        try (IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024)) {
+            journal.append(bytes("B"));
+
+            var entries = journal.read(journal.readCheckpoint(), 10);
+
+            assertThat(entries).extracting(entry -> text(entry.payload())).containsExactly("A", "B");
+        }
+    }
+
+    @Test
+    @DisplayName("새 세그먼트로 넘어간 직후 기록에 실패하면 미완료 바이트를 잘라내고 이후 기록과 재시작 후 읽기가 정상 동작한다")
+    void rollsBackFailedWriteAcrossSegmentRoll() throws Exception {
+        AtomicBoolean failWrites = new AtomicBoolean();
+        IntakeJournal.SegmentOpener opener = (segment, options) ->
+                new HookedChannel(FileChannel.open(segment, options), (delegate, src) -> {
+                    if (!failWrites.get()) {
+                        return delegate.write(src);
+                    }
+                    delegate.write(src.slice(src.position(), src.remaining() / 2));
+                    throw new IOException("disk full");
+                });
+
+        try (IntakeJournal journal = new IntakeJournal(directory, 1, Duration.ofSeconds(5), opener)) {
+            journal.append(bytes("A"));
+            failWrites.set(true);
+            assertThatThrownBy(() -> journal.append(bytes("B"))).isInstanceOf(UncheckedIOException.class);
+            failWrites.set(false);
+            journal.append(bytes("C"));
+
+            var entries = journal.read(journal.readCheckpoint(), 10);
+
+            assertThat(entries).extracting(entry -> text(entry.payload())).containsExactly("A", "C");
+        }
+
+        try (IntakeJournal journal = new IntakeJournal(directory, 1)) {
+            var entries = journal.read(journal.readCheckpoint(), 10);
+
+            assertThat(entries).extracting(entry -> text(entry.payload())).containsExactly("A", "C");
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 시작되기 전에 시간 초과된 레코드는 대기열에서 빠져 나중에 기록되지 않는다")
+    void dropsTimedOutAppendBeforeItIsWritten() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeGate = new CountDownLatch(1);
+        IntakeJournal.SegmentOpener opener = (segment, options) ->
+                new HookedChannel(FileChannel.open(segment, options), (delegate, src) -> {
+                    writeStarted.countDown();
+                    try {
+                        writeGate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                    return delegate.write(src);
+                });
+
+        try (IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024, Duration.ofMillis(100), opener)) {
+            CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> journal.append(bytes("A")));
+            writeStarted.await();
+
+            assertThatThrownBy(() -> journal.append(bytes("B"))).isInstanceOf(IllegalStateException.class);
+            writeGate.countDown();
+            inFlight.join(); // 쓰기 스레드가 가져간 레코드는 시간이 지나도 기록 결과를 기다린다
+            journal.append(bytes("C"));
+
+            var entries = journal.read(journal.readCheckpoint(), 10);
+
+            assertThat(entries).extracting(entry -> text(entry.payload())).containsExactly("A", "C");
+        }
+    }
+
+    @Test
+    @DisplayName("종료된 저널에 추가하면 기다리지 않고 즉시 실패한다")
+    void failsAppendAfterClose() throws Exception {
+        IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024);
+        journal.close();
+
+        assertThatThrownBy(() -> journal.append(bytes("A")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("격리한 레코드는 quarantine 디렉터리에 페이로드 그대로 보관한다")
+    void quarantinesRecordPayload() throws Exception {
+        try (IntakeJournal journal = new IntakeJournal(directory, 1024 * 1024)) {
+            journal.append(bytes("POISON"));
+            var entry = journal.read(journal.readCheckpoint(), 1).getFirst();
+
+            Path quarantined = journal.quarantine(entry);
+
+            assertThat(quarantined.getParent().getFileName().toString()).isEqualTo("quarantine");
+            assertThat(text(Files.readAllBytes(quarantined))).isEqualTo("POISON");
+        }
+    }
+
+    /**
+     * 순차 쓰기({@link FileChannel#write(ByteBuffer)})를 가로채 지연이나 실패를 주입하는 채널입니다.
+     */
+    private static final class HookedChannel extends FileChannel {
+
+        @FunctionalInterface
+        interface WriteHook {
+            int write(FileChannel delegate, ByteBuffer src) throws IOException;
+        }
+
+        private final FileChannel delegate;
+        private final WriteHook hook;
+
+        HookedChannel(FileChannel delegate, WriteHook hook) {
+            this.delegate = delegate;
+            this.hook = hook;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return hook.write(delegate, src);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        return segments().size();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JournaledOrderIntake 단위 테스트")
+class JournaledOrderIntakeTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("반복해서 반영에 실패하는 레코드만 격리하고 나머지 주문은 계속 반영한다")
+    void quarantinesPoisonRecordAndKeepsDraining() throws Exception {
+        Set<String> placedIds = ConcurrentHashMap.newKeySet();
+        OrderManagement orderManagement = mock(OrderManagement.class);
+        when(orderManagement.placeAll(anyList())).thenAnswer(invocation -> {
+            List<Order> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(order -> order.getId().equals("POISON"))) {
+                throw new IllegalArgumentException("반영할 수 없는 주문");
+            }
+            batch.forEach(order -> placedIds.add(order.getId()));
+            return batch.size();
+        });
+
+        try (JournaledOrderIntake intake = new JournaledOrderIntake(orderManagement, directory, DataSize.ofMegabytes(1),
+                10, Duration.ofMillis(10), 2, Duration.ofSeconds(5))) {
+            intake.accept(order("GOOD-1"));
+            intake.accept(order("POISON"));
+            intake.accept(order("GOOD-2"));
+
+            await().atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> assertThat(placedIds).containsExactlyInAnyOrder("GOOD-1", "GOOD-2"));
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(quarantined()).hasSize(1));
+
+            intake.accept(order("GOOD-3"));
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(placedIds).contains("GOOD-3"));
+        }
+    }
+
+    private static Order order(String id) {
+        return new Order(id, List.of(new OrderLine("PRODUCT-1", 1, 1000L)));
+    }
+
+    private List<Path> quarantined() throws Exception {
+        Path quarantine = directory.resolve("quarantine");
+        if (!Files.exists(quarantine)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(quarantine)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@ApplicationModuleTest(extraIncludes = {"infrastructure", "catalog"})
+class JournaledOrderIntakeTests {
+
+    @Autowired
+    OrderIntake orderIntake;
+
+    @Autowired
+    OrderManagement orderManagement;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) throws IOException {
+        var directory = Files.createTempDirectory("intake-journal");
+        registry.add("order.intake.mode", () -> "journal");
+        registry.add("order.intake.journal.directory", directory::toString);
+    }
+
+    @Test
+    void acceptsOrderToJournalAndDrainsItIntoDatabase() {
+        assertThat(orderIntake).isInstanceOf(JournaledOrderIntake.class);
+        var order = new Order(List.of(new OrderLine("PRODUCT-123", 2, 1000L), new OrderLine("PRODUCT-456", 1, 500L)));
+
+        orderIntake.accept(order);
+
+        await().untilAsserted(() -> {
+            var savedOrder = orderRepository.findById(order.getId()).orElseThrow();
+            assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(savedOrder.getTotalAmount()).isEqualTo(2500L);
+        });
+    }
+
+    @Test
+    void preservesDeadlineThroughJournal() {
+        var deadline = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.MILLIS);
+        var order = new Order(List.of(new OrderLine("PRODUCT-123", 1, 1000L)), deadline);
+
+        orderIntake.accept(order);
+
+        await().untilAsserted(() -> assertThat(orderRepository.findById(order.getId()))
+                .hasValueSatisfying(saved -> assertThat(saved.getDeadline()).isEqualTo(deadline)));
+    }
+
+    @Test
+    void skipsOrdersAlreadyPlacedWhenJournalIsReplayed() {
+        var alreadyPlaced = new Order("PRODUCT-123", 1, 1000L);
+        orderManagement.place(alreadyPlaced);
+
+        int placed = orderManagement.placeAll(List.of(
+                new Order(alreadyPlaced.getId(), List.of(new OrderLine("PRODUCT-123", 1, 1000L))),
+                new Order("PRODUCT-123", 1, 1000L)
+        ));
+
+        assertThat(placed).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest(extraIncludes = {"infrastructure", "catalog"})
+class OrderArchiveIntegrationTests {
+
+    @Autowired
+    OrderArchiver orderArchiver;
+
+    @Autowired
+    OrderLookup orderLookup;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 기간이 지난 종료 주문만 보관 테이블로 이동하고, 조회는 보관 테이블까지 확인하는지 검증합니다.
+     */
+    @Test
+    void movesOldFinishedOrdersToArchiveAndStillFindsThem() {
+        // Given: 60일 전에 확정된 주문과 60일 전부터 대기 중인 주문
+        var completed = new Order("ARCHIVE-PRODUCT", 2, 1000);
+        completed.complete();
+        var pending = new Order("ARCHIVE-PRODUCT", 1, 1000);
+        orderRepository.save(completed);
+        orderRepository.save(pending);
+        jdbcTemplate.update("UPDATE orders SET updated_at = ? WHERE id IN (?, ?)",
+                LocalDateTime.now().minusDays(60), completed.getId(), pending.getId());
+
+        // When
+        orderArchiver.archive();
+
+        // Then 1: 종료 주문만 운영 테이블에서 빠진다
+        assertThat(orderRepository.findById(completed.getId())).isEmpty();
+        assertThat(orderRepository.findById(pending.getId())).isPresent();
+
+        // Then 2: 조회는 보관 테이블까지 확인한다
+        var archived = orderLookup.find(completed.getId()).orElseThrow();
+        assertThat(archived.archived()).isTrue();
+        assertThat(archived.status()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(archived.totalAmount()).isEqualTo(2000);
+        assertThat(orderLookup.find(pending.getId()).orElseThrow().archived()).isFalse();
+    }
+
+    /**
+     * 종료 주문 순회 도중 보관이 일어나도 각 주문을 정확히 한 번만 전달하는지 검증합니다.
+     */
+    @Test
+    void walksEachFinishedOrderOnceWhileArchiving() {
+        // Given: 보관 기간이 지난 종료 주문 3건
+        LocalDateTime finishedAt = LocalDateTime.now().minusDays(400).withNano(0);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            var order = new Order("WALK-PRODUCT", 1, 1000);
+            order.complete();
+            orderRepository.save(order);
+            jdbcTemplate.update("UPDATE orders SET updated_at = ? WHERE id = ?",
+                    finishedAt.plusSeconds(i), order.getId());
+            ids.add(order.getId());
+        }
+
+        // When: 첫 페이지를 받은 직후 보관이 실행된다
+        List<String> walked = new ArrayList<>();
+        orderLookup.forEachFinished(finishedAt, finishedAt.plusMinutes(1), 1, page -> {
+            if (walked.isEmpty()) {
+                orderArchiver.archive();
+            }
+            page.forEach(order -> walked.add(order.id()));
+        });
+
+        // Then: 운영/보관 테이블을 오가도 각 주문은 한 번씩만 전달된다
+        assertThat(walked).containsExactlyElementsOf(ids);
+        assertThat(orderRepository.findAllById(ids)).isEmpty();
+    }
+}
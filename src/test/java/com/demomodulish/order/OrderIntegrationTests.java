@@ -6,7 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.modulith.test.ApplicationModuleTest;
 import org.springframework.modulith.test.AssertablePublishedEvents;
 
-@ApplicationModuleTest
+@ApplicationModuleTest(extraIncludes = {"infrastructure", "catalog"})
 class OrderIntegrationTests {
     @Autowired
     OrderManagement orderManagement;
@@ -24,7 +24,7 @@ class OrderIntegrationTests {
 
         // Then 1: DB에 저장이 되었는가?
         var savedOrder = orderRepository.findById(order.getId()).orElseThrow();
-        assert savedOrder.getProductId().equals("PRODUCT-123");
+        assert savedOrder.getLines().getFirst().getProductId().equals("PRODUCT-123");
 
         // Then 2: 이벤트가 발행되었는가?
         events.assertThat()
@@ -0,0 +1,123 @@
+package com.demomodulish.order;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest(extraIncludes = {"infrastructure", "catalog"})
+@TestPropertySource(properties = "order.listing.max-scanned-orders=4")
+class OrderListingIntegrationTests {
+
+    @Autowired
+    OrderListing orderListing;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    /**
+     * 상품 조건으로 키셋 커서를 따라가면 모든 주문을 ID 순으로 한 번씩 조회하는지 검증합니다.
+     */
+    @Test
+    void pagesThroughOrdersOfProductByKeyset() {
+        // Given: LISTING-A를 포함한 주문 5건과 포함하지 않은 주문 1건
+        List<String> expected = IntStream.range(0, 5)
+                .mapToObj(i -> orderRepository.save(new Order(List.of(
+                        new OrderLine("LISTING-A", 1, 1000),
+                        new OrderLine("LISTING-OTHER", 2, 500)))).getId())
+                .sorted()
+                .toList();
+        orderRepository.save(new Order("LISTING-B", 1, 1000));
+
+        // When: 2건씩 다음 커서가 없을 때까지 조회
+        List<OrderSummary> listed = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String after = "";
+        do {
+            OrderListing.Page page = orderListing.list(null, "LISTING-A", after, 2);
+            listed.addAll(page.orders());
+            pageSizes.add(page.orders().size());
+            after = page.next();
+        } while (after != null);
+
+        // Then
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(listed).extracting(OrderSummary::id).containsExactlyElementsOf(expected);
+        assertThat(listed).allSatisfy(summary -> {
+            assertThat(summary.status()).isEqualTo(OrderStatus.PENDING);
+            assertThat(summary.totalAmount()).isEqualTo(2000);
+        });
+    }
+
+    /**
+     * 상태와 상품 조건을 함께 지정하면 두 조건을 모두 만족하는 주문만 조회하는지 검증합니다.
+     */
+    @Test
+    void filtersByStatusAndProduct() {
+        // Given
+        var cancelled = new Order("LISTING-C", 1, 1000);
+        cancelled.cancel();
+        orderRepository.save(cancelled);
+        orderRepository.save(new Order("LISTING-C", 1, 1000));
+        var otherProduct = new Order("LISTING-D", 1, 1000);
+        otherProduct.cancel();
+        orderRepository.save(otherProduct);
+
+        // When
+        OrderListing.Page page = orderListing.list(OrderStatus.CANCELLED, "LISTING-C", "", 10);
+
+        // Then
+        assertThat(page.next()).isNull();
+        assertThat(page.orders()).extracting(OrderSummary::id).containsExactly(cancelled.getId());
+    }
+
+    /**
+     * 같은 상품이 여러 품목에 들어 있는 주문도 상품 조건 조회에서 한 번만 나오는지 검증합니다.
+     */
+    @Test
+    void listsOrderOnceWhenProductAppearsInSeveralLines() {
+        // Given
+        var order = orderRepository.save(new Order(List.of(
+                new OrderLine("LISTING-E", 1, 1000),
+                new OrderLine("LISTING-E", 2, 900))));
+
+        // When
+        List<OrderSummary> listed = orderListing.list(null, "LISTING-E", "", 10).orders();
+
+        // Then
+        assertThat(listed).extracting(OrderSummary::id).containsExactly(order.getId());
+        assertThat(listed.getFirst().totalAmount()).isEqualTo(2800);
+    }
+
+    /**
+     * 상태와 상품 조건을 함께 지정하면 한 번 호출에 훑는 주문 수가 제한되고, 짧은 페이지라도 다음 커서로 이어서 조회하는지 검증합니다.
+     */
+    @Test
+    void boundsScanPerPageWhenFilteringByStatusAndProduct() {
+        // Given: LISTING-F를 포함한 PENDING 주문이 한 번에 훑는 한도(4건)보다 많고, 그 뒤에 CANCELLED 주문 1건
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            orders.add(new Order("ZZ-PENDING-%d".formatted(i), List.of(new OrderLine("LISTING-F", 1, 100))));
+        }
+        var cancelled = new Order("ZZ-ZCANCELLED", List.of(new OrderLine("LISTING-F", 1, 100)));
+        cancelled.cancel();
+        orders.add(cancelled);
+        orderRepository.saveAll(orders);
+
+        // When
+        OrderListing.Page first = orderListing.list(OrderStatus.CANCELLED, "LISTING-F", "", 10);
+        OrderListing.Page second = orderListing.list(OrderStatus.CANCELLED, "LISTING-F", first.next(), 10);
+
+        // Then: 첫 호출은 한도만큼만 훑고 빈 페이지와 함께 이어 읽을 커서를 반환한다
+        assertThat(first.orders()).isEmpty();
+        assertThat(first.next()).isNotNull();
+        assertThat(second.orders()).extracting(OrderSummary::id).containsExactly(cancelled.getId());
+        assertThat(second.next()).isNull();
+    }
+}
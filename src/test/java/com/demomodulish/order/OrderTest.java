@@ -3,6 +3,8 @@ package com.demomodulish.order;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Order 엔티티 단위 테스트")
@@ -44,14 +46,50 @@ class OrderTest {
         assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
 
+    @Test
+    @DisplayName("이미 확정된 주문은 취소되지 않는다")
+    void shouldNotCancelCompletedOrder() {
+        Order order = new Order("PRODUCT-1", 5, 1000);
+        order.complete();
+
+        assertThat(order.cancel()).isFalse();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("생성 시각과 마지막 상태 전이 시각을 기록한다")
+    void shouldTrackTransitionTimestamps() {
+        Order order = new Order("PRODUCT-1", 5, 1000);
+        assertThat(order.getCreatedAt()).isNotNull();
+        assertThat(order.getUpdatedAt()).isEqualTo(order.getCreatedAt());
+
+        order.cancel();
+
+        assertThat(order.getUpdatedAt()).isAfterOrEqualTo(order.getCreatedAt());
+    }
+
     @Test
     @DisplayName("유효한 주문 정보로 생성한다")
     void shouldCreateValidOrder() {
         Order order = new Order("PRODUCT-1", 5, 1000);
 
-        assertThat(order.getProductId()).isEqualTo("PRODUCT-1");
-        assertThat(order.getQuantity()).isEqualTo(5);
-        assertThat(order.getPrice()).isEqualTo(1000);
+        assertThat(order.getLines()).hasSize(1);
+        assertThat(order.getLines().getFirst().getProductId()).isEqualTo("PRODUCT-1");
+        assertThat(order.getLines().getFirst().getQuantity()).isEqualTo(5);
+        assertThat(order.getLines().getFirst().getPrice()).isEqualTo(1000);
         assertThat(order.getId()).isNotNull();
     }
+
+    @Test
+    @DisplayName("여러 품목 주문의 총 금액은 품목별 금액의 합이다")
+    void shouldSumTotalAmountOfAllLines() {
+        Order order = new Order(List.of(
+                new OrderLine("PRODUCT-1", 2, 1000),
+                new OrderLine("PRODUCT-2", 3, 500)
+        ));
+
+        assertThat(order.getLines()).hasSize(2);
+        assertThat(order.getTotalAmount()).isEqualTo(3500);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
 }
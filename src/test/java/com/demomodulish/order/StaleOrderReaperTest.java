@@ -0,0 +1,200 @@
+package com.demomodulish.order;
+
+import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.OrderCancelledEvent;
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderCompletedEvent;
+import com.demomodulish.common.OrderFinishedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StaleOrderReaper 단위 테스트")
+class StaleOrderReaperTest {
+
+    private static final LocalDateTime STALE_AT = LocalDateTime.now().minusHours(1);
+
+    private OrderRepository orders;
+    private IncompleteEventPublications publications;
+    private ApplicationEventPublisher events;
+
+    @BeforeEach
+    void setUp() {
+        orders = mock(OrderRepository.class);
+        publications = mock(IncompleteEventPublications.class);
+        events = mock(ApplicationEventPublisher.class);
+    }
+
+    private StaleOrderReaper reaper(int batchSize) {
+        var properties = new ReaperProperties(true, Duration.ofMinutes(10), batchSize, 10, 3);
+        return new StaleOrderReaper(orders, publications, events, TransactionOperations.withoutTransaction(),
+                properties, new SimpleMeterRegistry());
+    }
+
+    private static Order pendingOrder(String id) {
+        return new Order(id, List.of(new OrderLine("PRODUCT-1", 1, 1000L)));
+    }
+
+    private void givenIncompletePublicationsFor(String... orderIds) {
+        givenIncompletePublications(Stream.of(orderIds)
+                .map(orderId -> new OrderCompletedEvent(orderId, new LineItem("PRODUCT-1", 1, 1000L)))
+                .toArray());
+    }
+
+    /**
+     * 레지스트리의 미완료 이벤트를 재발행 조건에 넘기고, 조건을 통과한(재발행된) 이벤트를 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> givenIncompletePublications(Object... events) {
+        List<Object> resubmitted = new ArrayList<>();
+        doAnswer(invocation -> {
+            Predicate<EventPublication> filter = invocation.getArgument(0);
+            for (Object event : events) {
+                EventPublication publication = mock(EventPublication.class);
+                when(publication.getEvent()).thenReturn(event);
+                if (filter.test(publication)) {
+                    resubmitted.add(event);
+                }
+            }
+            return null;
+        }).when(publications).resubmitIncompletePublications(any(Predicate.class));
+        return resubmitted;
+    }
+
+    @Test
+    @DisplayName("미완료 이벤트가 남은 주문은 재발행하고, 없는 주문은 취소하여 재고 복구를 요청한다")
+    void resubmitsOrCancelsStaleOrders() {
+        Order withPublication = pendingOrder("ORDER-A");
+        Order withoutPublication = pendingOrder("ORDER-B");
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(2L);
+        when(orders.findStale(eq(OrderStatus.PENDING), any(), any(), any(), any())).thenReturn(List.of(
+                new StaleOrder("ORDER-A", STALE_AT, 0),
+                new StaleOrder("ORDER-B", STALE_AT, 0)));
+        when(orders.findAllById(List.of("ORDER-A", "ORDER-B"))).thenReturn(List.of(withPublication, withoutPublication));
+        givenIncompletePublicationsFor("ORDER-A");
+
+        var report = reaper(100).reap();
+
+        assertThat(report).isEqualTo(new StaleOrderReaper.ReapReport(2, 1, 1));
+        assertThat(withPublication.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(withPublication.getResubmissions()).isEqualTo(1);
+        assertThat(withoutPublication.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(events).publishEvent(argThat((Object event) ->
+                event instanceof OrderCancelledEvent cancelled && cancelled.orderId().equals("ORDER-B")));
+        verify(events).publishEvent(argThat((Object event) ->
+                event instanceof OrderFinishedEvent finished && finished.orderId().equals("ORDER-B")
+                        && !finished.completed() && finished.finishedAt().equals(withoutPublication.getUpdatedAt())));
+    }
+
+    @Test
+    @DisplayName("재발행 한도를 넘은 주문은 재발행하지 않고 취소한다")
+    void cancelsOrdersOverResubmissionLimit() {
+        Order order = pendingOrder("ORDER-C");
+        for (int i = 0; i < 3; i++) {
+            order.markResubmitted();
+        }
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(1L);
+        when(orders.findStale(eq(OrderStatus.PENDING), any(), any(), any(), any()))
+                .thenReturn(List.of(new StaleOrder("ORDER-C", STALE_AT, 3)));
+        when(orders.findAllById(List.of("ORDER-C"))).thenReturn(List.of(order));
+        List<Object> resubmitted = givenIncompletePublications(
+                new OrderCompletedEvent("ORDER-C", new LineItem("PRODUCT-1", 1, 1000L)));
+
+        var report = reaper(100).reap();
+
+        assertThat(report.cancelled()).isEqualTo(1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(resubmitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 이벤트가 미완료로 남은 주문은 재발행 한도를 넘어도 취소하지 않고 결제 이벤트를 재발행한다")
+    void neverCancelsOrdersAwaitingPayment() {
+        Order order = pendingOrder("ORDER-P");
+        for (int i = 0; i < 3; i++) {
+            order.markResubmitted();
+        }
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(1L);
+        when(orders.findStale(eq(OrderStatus.PENDING), any(), any(), any(), any()))
+                .thenReturn(List.of(new StaleOrder("ORDER-P", STALE_AT, 3)));
+        when(orders.findAllById(List.of("ORDER-P"))).thenReturn(List.of(order));
+        InventoryVerifiedEvent payment = new InventoryVerifiedEvent("ORDER-P", new LineItem("PRODUCT-1", 1, 1000L), Map.of());
+        List<Object> resubmitted = givenIncompletePublications(payment);
+
+        var report = reaper(100).reap();
+
+        assertThat(report.cancelled()).isZero();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(resubmitted).containsExactly(payment);
+        verify(events, never()).publishEvent(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("마지막 주문의 (updatedAt, id)를 커서로 다음 페이지를 조회한다")
+    void walksPagesWithKeysetCursor() {
+        LocalDateTime second = STALE_AT.plusSeconds(1);
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(3L);
+        when(orders.findStale(eq(OrderStatus.PENDING), any(), any(), any(), any()))
+                .thenReturn(List.of(new StaleOrder("ORDER-1", STALE_AT, 3), new StaleOrder("ORDER-2", second, 3)))
+                .thenReturn(List.of(new StaleOrder("ORDER-3", second, 3)));
+
+        reaper(2).reap();
+
+        verify(orders).findStale(eq(OrderStatus.PENDING), any(), eq(second), eq("ORDER-2"), any());
+    }
+
+    @Test
+    @DisplayName("여러 페이지의 주문도 이벤트 발행 레지스트리는 실행당 한 번만 순회하여 재발행한다")
+    void resubmitsOncePerRunAcrossPages() {
+        Order first = pendingOrder("ORDER-1");
+        Order second = pendingOrder("ORDER-2");
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(2L);
+        when(orders.findStale(eq(OrderStatus.PENDING), any(), any(), any(), any()))
+                .thenReturn(List.of(new StaleOrder("ORDER-1", STALE_AT, 0)))
+                .thenReturn(List.of(new StaleOrder("ORDER-2", STALE_AT.plusSeconds(1), 0)))
+                .thenReturn(List.of());
+        when(orders.findAllById(List.of("ORDER-1"))).thenReturn(List.of(first));
+        when(orders.findAllById(List.of("ORDER-2"))).thenReturn(List.of(second));
+        givenIncompletePublicationsFor("ORDER-1", "ORDER-2");
+
+        var report = reaper(1).reap();
+
+        assertThat(report.resubmitted()).isEqualTo(2);
+        verify(publications, times(1)).resubmitIncompletePublications(any());
+    }
+
+    @Test
+    @DisplayName("멈춘 주문이 없으면 페이지를 조회하지 않는다")
+    void skipsScanWhenNothingIsStale() {
+        when(orders.countByStatusAndUpdatedAtBefore(eq(OrderStatus.PENDING), any())).thenReturn(0L);
+
+        var report = reaper(100).reap();
+
+        assertThat(report.stale()).isZero();
+        verify(orders, never()).findStale(any(), any(), any(), any(), any());
+    }
+}
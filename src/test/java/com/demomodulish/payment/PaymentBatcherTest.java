@@ -0,0 +1,212 @@
+package com.demomodulish.payment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentBatcher 단위 테스트")
+class PaymentBatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(3, Duration.ofMinutes(1));
+
+    private PaymentBatcher batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.close();
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기만큼 요청을 묶어 한 번에 승인한다")
+    void groupsRequestsUpToMaxBatchSize() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        batcher = new PaymentBatcher(requests -> {
+            batchSizes.add(requests.size());
+            return approveAll(requests);
+        }, 5, Duration.ofSeconds(1), 1, 1000, TIMEOUT, circuitBreaker);
+
+        List<CompletableFuture<PaymentAuthorization>> results = submit(10);
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        assertThat(batchSizes).containsExactly(5, 5);
+        assertThat(results).allSatisfy(result -> assertThat(result.join().approved()).isTrue());
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 지나면 배치가 가득 차지 않아도 승인한다")
+    void flushesPartialBatchAfterMaxWait() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        batcher = new PaymentBatcher(requests -> {
+            batchSizes.add(requests.size());
+            return approveAll(requests);
+        }, 100, Duration.ofMillis(20), 1, 1000, TIMEOUT, circuitBreaker);
+
+        PaymentAuthorization result = batcher.authorize(new PaymentRequest("ORDER-1", 1000L)).join();
+
+        assertThat(result.orderId()).isEqualTo("ORDER-1");
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("동시에 전송 중인 배치 수를 제한한다")
+    void boundsBatchesInFlight() {
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        batcher = new PaymentBatcher(requests -> {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            sleep(Duration.ofMillis(20));
+            current.decrementAndGet();
+            return approveAll(requests);
+        }, 1, Duration.ZERO, 2, 1000, TIMEOUT, circuitBreaker);
+
+        CompletableFuture.allOf(submit(10).toArray(CompletableFuture[]::new)).join();
+
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 한도에 도달한 동안 들어온 요청은 한도가 비면 다음 배치에 함께 담긴다")
+    void collectsQueuedRequestsWhileInFlightLimitIsReached() throws InterruptedException {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = new PaymentBatcher(requests -> {
+            batchSizes.add(requests.size());
+            firstSent.countDown();
+            awaitQuietly(release);
+            return approveAll(requests);
+        }, 10, Duration.ZERO, 1, 1000, TIMEOUT, circuitBreaker);
+
+        CompletableFuture<PaymentAuthorization> first = batcher.authorize(new PaymentRequest("ORDER-FIRST", 1000L));
+        assertThat(firstSent.await(1, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<PaymentAuthorization>> queued = submit(5);
+        sleep(Duration.ofMillis(50));
+        release.countDown();
+
+        first.join();
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).join();
+        assertThat(batchSizes).containsExactly(1, 5);
+    }
+
+    @Test
+    @DisplayName("게이트웨이 응답에 누락된 주문은 거절로 처리한다")
+    void declinesMissingResults() {
+        batcher = new PaymentBatcher(requests -> List.of(), 10, Duration.ZERO, 1, 1000, TIMEOUT, circuitBreaker);
+
+        PaymentAuthorization result = batcher.authorize(new PaymentRequest("ORDER-1", 1000L)).join();
+
+        assertThat(result.approved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("전송 후 게이트웨이 호출이 실패하면 배치의 모든 요청이 결과 미확인으로 완료된다")
+    void failsWholeBatchOnGatewayError() {
+        batcher = new PaymentBatcher(requests -> {
+            throw new IllegalStateException("gateway down");
+        }, 10, Duration.ZERO, 1, 1000, TIMEOUT, circuitBreaker);
+
+        assertThatThrownBy(() -> batcher.authorize(new PaymentRequest("ORDER-1", 1000L)).join())
+                .hasCauseInstanceOf(PaymentOutcomeUnknownException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("배치 호출이 실패하면 요청 수와 관계없이 서킷 브레이커에 실패를 한 번만 기록한다")
+    void recordsOneFailurePerGatewayCall() {
+        batcher = new PaymentBatcher(requests -> {
+            throw new IllegalStateException("gateway down");
+        }, 5, Duration.ofSeconds(1), 1, 1000, TIMEOUT, circuitBreaker);
+
+        List<CompletableFuture<PaymentAuthorization>> results = submit(5);
+        results.forEach(result -> assertThatThrownBy(result::join).hasCauseInstanceOf(PaymentOutcomeUnknownException.class));
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("이미 전송된 요청은 타임아웃을 넘겨도 게이트웨이의 실제 승인 결과로 완료된다")
+    void waitsForGatewayResultAfterSend() {
+        batcher = new PaymentBatcher(requests -> {
+            sleep(Duration.ofMillis(300));
+            return approveAll(requests);
+        }, 10, Duration.ZERO, 1, 1000, Duration.ofMillis(50), circuitBreaker);
+
+        CompletableFuture<PaymentAuthorization> result = batcher.authorize(new PaymentRequest("ORDER-1", 1000L));
+
+        assertThat(result).isNotDone();
+        assertThat(result.join().approved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열에서 타임아웃된 요청은 게이트웨이로 보내지 않는다")
+    void skipsRequestsThatTimedOutWhileQueued() throws InterruptedException {
+        List<String> sentOrderIds = new CopyOnWriteArrayList<>();
+        batcher = new PaymentBatcher(requests -> {
+            requests.forEach(request -> sentOrderIds.add(request.orderId()));
+            sleep(Duration.ofMillis(200));
+            return approveAll(requests);
+        }, 1, Duration.ZERO, 1, 1000, Duration.ofMillis(50), circuitBreaker);
+
+        List<CompletableFuture<PaymentAuthorization>> results = submit(3);
+        assertThat(results.getFirst().join().approved()).isTrue();
+        results.subList(1, 3).forEach(result -> assertThatThrownBy(result::join).hasCauseInstanceOf(TimeoutException.class));
+        batcher.close();
+
+        assertThat(sentOrderIds).containsExactly("ORDER-0");
+    }
+
+    @Test
+    @DisplayName("종료된 뒤 접수된 요청은 기다리지 않고 실패로 완료된다")
+    void failsRequestsAfterClose() throws InterruptedException {
+        batcher = new PaymentBatcher(PaymentBatcherTest::approveAll, 10, Duration.ZERO, 1, 1000, TIMEOUT, circuitBreaker);
+        batcher.close();
+
+        CompletableFuture<PaymentAuthorization> result = batcher.authorize(new PaymentRequest("ORDER-1", 1000L));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private List<CompletableFuture<PaymentAuthorization>> submit(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> batcher.authorize(new PaymentRequest("ORDER-" + i, 1000L)))
+                .toList();
+    }
+
+    private static List<PaymentAuthorization> approveAll(List<PaymentRequest> requests) {
+        return requests.stream()
+                .map(request -> PaymentAuthorization.approved(request.orderId()))
+                .toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.demomodulish.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentCircuitBreaker 단위 테스트")
+class PaymentCircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(3, Duration.ofSeconds(10), clock);
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 회로를 열고 호출을 거절한다")
+    void opensAfterConsecutiveFailures() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isTrue();
+
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다")
+    void resetsFailuresOnSuccess() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 호출 한 건만 허용하고, 성공 시 회로를 닫는다")
+    void allowsSingleTrialAfterOpenDuration() {
+        open();
+        clock.advance(Duration.ofSeconds(11));
+
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isFalse();
+
+        circuitBreaker.recordSuccess();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 회로를 다시 연다")
+    void reopensWhenTrialFails() {
+        open();
+        clock.advance(Duration.ofSeconds(11));
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 결과 없이 끝나 허가를 반납하면 다음 요청이 시험 호출을 이어받는다")
+    void handsOverTrialWhenReleasedWithoutOutcome() {
+        open();
+        clock.advance(Duration.ofSeconds(11));
+        PaymentCircuitBreaker.Permission trial = circuitBreaker.tryAcquirePermission();
+        assertThat(trial).isEqualTo(PaymentCircuitBreaker.Permission.TRIAL);
+
+        circuitBreaker.releasePermission(trial);
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(PaymentCircuitBreaker.Permission.TRIAL);
+    }
+
+    @Test
+    @DisplayName("시험 호출 결과가 기록된 뒤 반납된 허가는 상태를 바꾸지 않는다")
+    void ignoresReleaseAfterOutcomeRecorded() {
+        open();
+        clock.advance(Duration.ofSeconds(11));
+        PaymentCircuitBreaker.Permission trial = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.recordFailure();
+
+        circuitBreaker.releasePermission(trial);
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission().isPermitted()).isFalse();
+    }
+
+    private void open() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
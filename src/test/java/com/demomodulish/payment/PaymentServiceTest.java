@@ -1,19 +1,33 @@
 package com.demomodulish.payment;
 
 import com.demomodulish.common.InventoryVerifiedEvent;
+import com.demomodulish.common.LineItem;
 import com.demomodulish.common.PaymentCompletedEvent;
 import com.demomodulish.common.PaymentFailedEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -21,30 +35,117 @@ class PaymentServiceTest {
     @Mock
     ApplicationEventPublisher events;
 
+    @Mock
+    PaymentAttemptRepository attempts;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private PaymentBatcher batcher;
+    private PaymentCircuitBreaker circuitBreaker;
     private PaymentService paymentService;
 
     @org.junit.jupiter.api.BeforeEach
     void setUp() {
-        paymentService = new PaymentService(events, 9999L);
+        circuitBreaker = new PaymentCircuitBreaker(1, Duration.ofMinutes(1));
+        batcher = new PaymentBatcher(new StubPaymentGateway(9999L, Duration.ZERO, 0.0),
+                10, Duration.ofMillis(1), 1, 100, Duration.ofSeconds(1), circuitBreaker);
+        paymentService = new PaymentService(events, batcher, circuitBreaker, attempts, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.close();
     }
 
     @Test
     @DisplayName("재고 확인 완료 이벤트를 받으면 결제를 시도하고 성공 시 완료 이벤트를 발행한다")
     void publishesPaymentCompletedEventOnSuccess() {
-        InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-123", 2000L, "PRODUCT-123", 2, Map.of());
+        InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-123", new LineItem("PRODUCT-123", 2, 1000L), Map.of());
 
         paymentService.on(event);
 
-        verify(events).publishEvent(any(PaymentCompletedEvent.class));
+        verify(events, timeout(1000)).publishEvent(any(PaymentCompletedEvent.class));
     }
 
     @Test
     @DisplayName("결제 실패 시 실패 이벤트를 발행한다")
     void publishesPaymentFailedEventOnFailure() {
-        InventoryVerifiedEvent event = new InventoryVerifiedEvent("FAIL-ORDER", 9999L, "FAIL-PRODUCT", 3, Map.of());
+        InventoryVerifiedEvent event = new InventoryVerifiedEvent("FAIL-ORDER", new LineItem("FAIL-PRODUCT", 3, 3333L), Map.of());
+
+        paymentService.on(event);
+
+        verify(events, timeout(1000)).publishEvent(any(PaymentFailedEvent.class));
+    }
+
+    @Test
+    @DisplayName("처리 기한이 지난 주문은 게이트웨이를 호출하지 않고 즉시 실패 이벤트를 발행한다")
+    void shedsExpiredOrderWithoutCallingGateway() {
+        InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-EXPIRED", 2000L,
+                List.of(new LineItem("PRODUCT-1", 2, 1000L)), Map.of("BATCH-1", 2), LocalDateTime.now().minusSeconds(1));
+
+        paymentService.on(event);
+
+        verify(events).publishEvent(any(PaymentFailedEvent.class));
+        verify(events, after(200).never()).publishEvent(any(PaymentCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 게이트웨이를 호출하지 않고 즉시 실패 이벤트를 발행한다")
+    void failsFastWhenCircuitIsOpen() {
+        circuitBreaker.recordFailure();
+        InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-456", new LineItem("PRODUCT-456", 2, 1000L), Map.of());
 
         paymentService.on(event);
 
         verify(events).publishEvent(any(PaymentFailedEvent.class));
     }
+
+    @Test
+    @DisplayName("전송 후 게이트웨이 오류로 승인 여부를 모르면 실패 이벤트를 발행하지 않고 재처리 대상으로 남긴다")
+    void keepsPublicationIncompleteWhenOutcomeIsUnknown() throws InterruptedException {
+        try (PaymentBatcher failing = new PaymentBatcher(requests -> {
+            throw new IllegalStateException("connection reset after send");
+        }, 10, Duration.ofMillis(1), 1, 100, Duration.ofSeconds(1), circuitBreaker)) {
+            PaymentService service = new PaymentService(events, failing, circuitBreaker, attempts, transactionManager);
+            InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-789", new LineItem("PRODUCT-789", 1, 1000L), Map.of());
+
+            assertThatThrownBy(() -> service.on(event)).isInstanceOf(PaymentOutcomeUnknownException.class);
+        }
+
+        verify(events, never()).publishEvent(any(PaymentFailedEvent.class));
+    }
+
+    @Test
+    @DisplayName("결제 결과가 확정된 주문이 재처리되면 게이트웨이를 호출하지 않고 확정된 결과 이벤트를 다시 발행한다")
+    void replaysDecidedOutcomeWithoutCallingGateway() throws InterruptedException {
+        PaymentAttempt attempt = new PaymentAttempt("ORDER-321", LocalDateTime.now());
+        attempt.decide(PaymentAuthorization.approved("ORDER-321"), LocalDateTime.now());
+        when(attempts.findById("ORDER-321")).thenReturn(Optional.of(attempt));
+        List<PaymentRequest> sent = new CopyOnWriteArrayList<>();
+        try (PaymentBatcher recording = new PaymentBatcher(requests -> {
+            sent.addAll(requests);
+            return List.of();
+        }, 10, Duration.ofMillis(1), 1, 100, Duration.ofSeconds(1), circuitBreaker)) {
+            PaymentService service = new PaymentService(events, recording, circuitBreaker, attempts, transactionManager);
+
+            service.on(new InventoryVerifiedEvent("ORDER-321", new LineItem("PRODUCT-321", 1, 1000L), Map.of()));
+        }
+
+        verify(events).publishEvent(any(PaymentCompletedEvent.class));
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과가 확정되지 않은 주문은 처리 기한이 지났거나 서킷이 열려 있어도 실패로 보상하지 않는다")
+    void neverCompensatesUndecidedAttempt() {
+        when(attempts.findById("ORDER-654")).thenReturn(Optional.of(new PaymentAttempt("ORDER-654", LocalDateTime.now())));
+        circuitBreaker.recordFailure();
+        InventoryVerifiedEvent event = new InventoryVerifiedEvent("ORDER-654", 1000L,
+                List.of(new LineItem("PRODUCT-654", 1, 1000L)), Map.of(), LocalDateTime.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> paymentService.on(event)).isInstanceOf(PaymentOutcomeUnknownException.class);
+
+        verify(events, never()).publishEvent(any(PaymentFailedEvent.class));
+    }
 }
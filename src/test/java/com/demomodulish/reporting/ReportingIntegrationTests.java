@@ -0,0 +1,98 @@
+package com.demomodulish.reporting;
+
+import com.demomodulish.common.LineItem;
+import com.demomodulish.common.OrderFinishedEvent;
+import com.demomodulish.order.Order;
+import com.demomodulish.order.OrderLine;
+import com.demomodulish.order.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.Scenario;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest(extraIncludes = {"infrastructure", "order", "catalog"})
+class ReportingIntegrationTests {
+
+    @Autowired
+    SalesAggregator salesAggregator;
+
+    @Autowired
+    SalesRebuilder salesRebuilder;
+
+    @Autowired
+    SalesReport salesReport;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 확정 이벤트가 버퍼를 거쳐 상품별 매출로 반영되는지 검증합니다.
+     */
+    @Test
+    void aggregatesCompletedOrders(Scenario scenario) {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime to = from.plusHours(1);
+        var lines = List.of(new LineItem("REPORT-LIVE", 3, 500));
+
+        scenario.publish(new OrderFinishedEvent("REPORT-ORDER-1", true, lines, LocalDateTime.now()))
+                .andWaitForStateChange(() -> {
+                    salesAggregator.flush();
+                    return salesReport.topProducts(from, to, 100).stream()
+                            .filter(sales -> sales.productId().equals("REPORT-LIVE"))
+                            .findFirst()
+                            .orElse(null);
+                })
+                .andVerify(sales -> {
+                    assertThat(sales.completedOrders()).isEqualTo(1);
+                    assertThat(sales.soldQuantity()).isEqualTo(3);
+                    assertThat(sales.revenue()).isEqualTo(1500);
+                });
+    }
+
+    /**
+     * 지난 구간의 집계를 주문 이력으로 다시 계산하면 완료/취소 주문이 판매/판매 실패로 집계되는지 검증합니다.
+     */
+    @Test
+    void rebuildsPastBucketsFromOrderHistory() {
+        // Given: 2시간 전에 완료된 주문 2건과 취소된 주문 1건
+        LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(2);
+        var completed1 = new Order(List.of(new OrderLine("REPORT-REBUILD", 2, 1000)));
+        var completed2 = new Order(List.of(new OrderLine("REPORT-REBUILD", 1, 1000)));
+        var cancelled = new Order(List.of(new OrderLine("REPORT-REBUILD", 5, 1000)));
+        completed1.complete();
+        completed2.complete();
+        cancelled.cancel();
+        orderRepository.saveAll(List.of(completed1, completed2, cancelled));
+        jdbcTemplate.update("UPDATE orders SET updated_at = ? WHERE id IN (?, ?, ?)",
+                twoHoursAgo, completed1.getId(), completed2.getId(), cancelled.getId());
+
+        // When
+        LocalDateTime from = twoHoursAgo.minusHours(1);
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        salesRebuilder.rebuild(from, to);
+
+        // Then
+        var sales = salesReport.topProducts(from.truncatedTo(ChronoUnit.HOURS), to, 100).stream()
+                .filter(row -> row.productId().equals("REPORT-REBUILD"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(sales.completedOrders()).isEqualTo(2);
+        assertThat(sales.soldQuantity()).isEqualTo(3);
+        assertThat(sales.revenue()).isEqualTo(3000);
+        assertThat(sales.failedOrders()).isEqualTo(1);
+        assertThat(sales.failedQuantity()).isEqualTo(5);
+        assertThat(salesReport.timeline("REPORT-REBUILD", from.truncatedTo(ChronoUnit.HOURS), to))
+                .extracting(SalesBucket::bucketStart)
+                .containsExactly(twoHoursAgo.truncatedTo(ChronoUnit.HOURS));
+    }
+}
@@ -0,0 +1,92 @@
+package com.demomodulish.reporting;
+
+import com.demomodulish.common.LineItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SalesAggregator 단위 테스트")
+class SalesAggregatorTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private SalesAggregateStore store;
+    private SalesAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(SalesAggregateStore.class);
+        aggregator = new SalesAggregator(store, new SalesProperties(ChronoUnit.HOURS, 3, 500));
+    }
+
+    @Test
+    @DisplayName("같은 상품과 구간의 증분은 버퍼에서 합쳐 한 행으로 반영한다")
+    void mergesDeltasOfSameBucket() {
+        aggregator.record(NOON.plusMinutes(5), SalesDelta.completed(List.of(new LineItem("P-1", 2, 1000))));
+        aggregator.record(NOON.plusMinutes(40), SalesDelta.completed(List.of(new LineItem("P-1", 1, 1000))));
+        aggregator.record(NOON.plusMinutes(50), SalesDelta.failed(List.of(new LineItem("P-1", 4, 1000))));
+
+        aggregator.flush();
+
+        verify(store).increment(Map.of(new SalesKey("P-1", NOON), new SalesDelta(2, 3, 3000, 1, 4)));
+        assertThat(aggregator.bufferedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 주문에 같은 상품이 여러 줄이어도 주문 수는 한 번만 센다")
+    void countsOrderOncePerProduct() {
+        Map<String, SalesDelta> deltas = SalesDelta.completed(List.of(
+                new LineItem("P-1", 1, 500),
+                new LineItem("P-1", 2, 500),
+                new LineItem("P-2", 1, 300)));
+
+        assertThat(deltas).containsEntry("P-1", new SalesDelta(1, 3, 1500, 0, 0))
+                .containsEntry("P-2", new SalesDelta(1, 1, 300, 0, 0));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 버퍼에 남아 다음 반영에 합쳐진다")
+    void keepsDeltasWhenFlushFails() {
+        doThrow(new DataAccessResourceFailureException("db down")).doNothing().when(store).increment(any());
+        aggregator.record(NOON, SalesDelta.completed(List.of(new LineItem("P-1", 1, 1000))));
+
+        aggregator.flush();
+        aggregator.record(NOON, SalesDelta.completed(List.of(new LineItem("P-1", 1, 1000))));
+        aggregator.flush();
+
+        verify(store, times(2)).increment(any());
+        verify(store).increment(Map.of(new SalesKey("P-1", NOON), new SalesDelta(2, 2, 2000, 0, 0)));
+        assertThat(aggregator.bufferedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼 항목 수가 한도에 도달하면 주기를 기다리지 않고 반영한다")
+    void flushesWhenBufferIsFull() {
+        aggregator.record(NOON, SalesDelta.completed(List.of(new LineItem("P-1", 1, 1000), new LineItem("P-2", 1, 1000))));
+        verify(store, never()).increment(any());
+
+        aggregator.record(NOON.plusHours(1), SalesDelta.completed(List.of(new LineItem("P-1", 1, 1000))));
+
+        verify(store).increment(argThat(deltas -> deltas.size() == 3));
+        assertThat(aggregator.bufferedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 반영하지 않는다")
+    void skipsEmptyFlush() {
+        aggregator.flush();
+
+        verifyNoInteractions(store);
+    }
+}